@@ -0,0 +1,69 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.Try;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Capturing lambdas against the context-argument overloads of {@code map}/{@code flatMap}.
+ * <p>
+ * Once {@code Success.map} is inlined, escape analysis removes the captured lambdas and both
+ * variants allocate the same. The fork therefore keeps {@code Success} methods out of line,
+ * which is what happens in handlers that are too large or too polymorphic to inline. Run with
+ * {@code -prof gc}; the capturing variant allocates one extra lambda per stage.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+        value = 2,
+        jvmArgsAppend = {
+            "-XX:CompileCommand=quiet",
+            "-XX:CompileCommand=dontinline,io.github.abhipdgupta.tryutil.Success::*"
+        })
+@State(Scope.Thread)
+public class ContextArgumentBenchmark {
+
+    /** Stands in for request-scoped state such as a tenant or a parsed header. */
+    public record Request(int offset) {}
+
+    private Try<Integer> success;
+    private Request request;
+
+    @Setup
+    public void setUp() {
+        success = Try.of(() -> 1);
+        request = new Request(1000);
+    }
+
+    @Benchmark
+    public Try<Integer> capturing() {
+        return capturing(success, request);
+    }
+
+    @Benchmark
+    public Try<Integer> contextArgument() {
+        return contextArgument(success, request);
+    }
+
+    private static Try<Integer> capturing(Try<Integer> start, Request request) {
+        return start.map(v -> v + request.offset())
+                .flatMap(v -> Try.success(v * request.offset()));
+    }
+
+    private static Try<Integer> contextArgument(Try<Integer> start, Request request) {
+        return start.map(request, (r, v) -> v + r.offset())
+                .flatMap(request, (r, v) -> Try.success(v * r.offset()));
+    }
+}
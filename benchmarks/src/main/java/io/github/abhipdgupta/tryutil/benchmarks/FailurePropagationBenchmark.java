@@ -0,0 +1,66 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.Try;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Allocation of a ten-stage {@code map}/{@code flatMap} pipeline on the failure path.
+ * <p>
+ * A failure passes through every stage as the same instance, so with {@code -prof gc} the
+ * {@code gc.alloc.rate.norm} of {@link #tenStagesFailure()} is expected to be 0 B/op.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FailurePropagationBenchmark {
+
+    private Try<Integer> success;
+    private Try<Integer> failure;
+
+    @Setup
+    public void setUp() {
+        success = Try.of(() -> 1);
+        failure =
+                Try.of(
+                        () -> {
+                            throw new IllegalStateException("boom");
+                        });
+    }
+
+    @Benchmark
+    public Try<Integer> tenStagesSuccess() {
+        return tenStages(success);
+    }
+
+    @Benchmark
+    public Try<Integer> tenStagesFailure() {
+        return tenStages(failure);
+    }
+
+    private static Try<Integer> tenStages(Try<Integer> start) {
+        return start.map(v -> v + 1)
+                .flatMap(v -> Try.of(() -> v * 2))
+                .map(v -> v - 1)
+                .flatMap(v -> Try.of(() -> v + 3))
+                .map(v -> v * 3)
+                .map(v -> v + 1)
+                .flatMap(v -> Try.of(() -> v - 2))
+                .map(v -> v / 2)
+                .flatMap(v -> Try.of(() -> v + 7))
+                .map(v -> v + 1);
+    }
+}
@@ -0,0 +1,43 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.Try;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code Try.of} with {@code TryMetrics} disabled, the default, and enabled through
+ * {@code -Dtryutil.metrics=true}. Run with several threads ({@code -t 4}) to see the
+ * {@code LongAdder} counters stay uncontended.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    private int counter;
+
+    @Benchmark
+    @Fork(2)
+    public Try<Integer> disabled() {
+        return Try.of(() -> counter++);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dtryutil.metrics=true")
+    public Try<Integer> enabled() {
+        return Try.of(() -> counter++);
+    }
+}
@@ -0,0 +1,42 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.IntTry;
+import io.github.abhipdgupta.tryutil.TryParse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing a field through {@code IntTry.ofInt(() -> Integer.parseInt(s))} against
+ * {@link TryParse#parseInt(CharSequence)}, for well-formed and malformed input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ParseBenchmark {
+
+    @Param({"123456", "12x456"})
+    public String input;
+
+    @Benchmark
+    public int jdkParse() {
+        return IntTry.ofInt(() -> Integer.parseInt(input)).getOrElse(-1);
+    }
+
+    @Benchmark
+    public int tryParse() {
+        return TryParse.parseInt(input).getOrElse(-1);
+    }
+}
@@ -0,0 +1,71 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.Failure;
+import io.github.abhipdgupta.tryutil.Success;
+import io.github.abhipdgupta.tryutil.Try;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Unwrapping a mix of successes and failures with the {@code isSuccess()/get()} idiom against
+ * an exhaustive {@code switch} over the sealed {@code Try} hierarchy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PatternMatchingBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"0", "30", "100"})
+    public int failurePercent;
+
+    private Try<Integer>[] results;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        results = new Try[SIZE];
+        IllegalStateException cause = new IllegalStateException("boom");
+        for (int i = 0; i < SIZE; i++) {
+            int value = i;
+            results[i] = (i * 100 / SIZE) < failurePercent ? Try.failure(cause) : Try.of(() -> value);
+        }
+    }
+
+    @Benchmark
+    public long isSuccessAndGet() {
+        long sum = 0;
+        for (Try<Integer> result : results) {
+            sum += result.isSuccess() ? result.get() : result.getCause().hashCode();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long switchPattern() {
+        long sum = 0;
+        for (Try<Integer> result : results) {
+            sum +=
+                    switch (result) {
+                        case Success(var value) -> value;
+                        case Failure(var cause) -> cause.hashCode();
+                    };
+        }
+        return sum;
+    }
+}
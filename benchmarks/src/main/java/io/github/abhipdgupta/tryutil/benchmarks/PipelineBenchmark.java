@@ -0,0 +1,69 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.Try;
+import io.github.abhipdgupta.tryutil.TryPipeline;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * An eight-stage chain of {@code map}/{@code flatMap}/{@code recover} calls on {@code Try}
+ * against the same stages in a prebuilt {@link TryPipeline}. The input is large enough that
+ * the intermediate values are not cached {@code Long}s. Run with {@code -prof gc} to compare
+ * the allocation per operation.
+ * <p>
+ * When the whole chain inlines into the benchmark method, escape analysis already removes the
+ * intermediate {@code Success} objects and the chain is faster. To model chains in handlers
+ * too large to inline, add
+ * {@code -jvmArgsAppend "-XX:CompileCommand=dontinline,io.github.abhipdgupta.tryutil.Success::*"};
+ * the chain then allocates a {@code Success} per stage and the pipeline does not.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+
+    private static final TryPipeline<String, Long> PIPELINE =
+            TryPipeline.<String>start()
+                    .map(String::trim)
+                    .map(Long::parseLong)
+                    .map(v -> v + 1)
+                    .flatMap(v -> v > 0 ? Try.success(v * 3) : Try.failure(new ArithmeticException()))
+                    .map(v -> v - 7)
+                    .recover(ArithmeticException.class, e -> 0L)
+                    .map(v -> v * 5)
+                    .map(v -> v ^ 0x55);
+
+    @Param({"  123456 ", "-999999"})
+    public String input;
+
+    @Benchmark
+    public Try<Long> chained() {
+        return Try.success(input)
+                .map(String::trim)
+                .map(Long::parseLong)
+                .map(v -> v + 1)
+                .flatMap(v -> v > 0 ? Try.success(v * 3) : Try.failure(new ArithmeticException()))
+                .map(v -> v - 7)
+                .recover(ArithmeticException.class, e -> 0L)
+                .map(v -> v * 5)
+                .map(v -> v ^ 0x55);
+    }
+
+    @Benchmark
+    public Try<Long> pipeline() {
+        return PIPELINE.apply(input);
+    }
+}
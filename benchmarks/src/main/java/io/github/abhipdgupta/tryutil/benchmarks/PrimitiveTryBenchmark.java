@@ -0,0 +1,48 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.IntTry;
+import io.github.abhipdgupta.tryutil.Try;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boxed {@code Try<Integer>} against the unboxed {@link IntTry} for a parse-and-transform
+ * chain. Run with {@code -prof gc} to compare the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PrimitiveTryBenchmark {
+
+    public String input = "123456";
+
+    @Benchmark
+    public int boxed() {
+        return Try.of(() -> Integer.parseInt(input))
+                .map(v -> v * 2)
+                .map(v -> v + 1000)
+                .map(v -> v / 3)
+                .getOrElse(-1);
+    }
+
+    @Benchmark
+    public int primitive() {
+        return IntTry.ofInt(() -> Integer.parseInt(input))
+                .map(v -> v * 2)
+                .map(v -> v + 1000)
+                .map(v -> v / 3)
+                .getOrElse(-1);
+    }
+}
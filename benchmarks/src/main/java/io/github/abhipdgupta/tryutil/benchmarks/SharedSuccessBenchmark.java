@@ -0,0 +1,60 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.Try;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Allocation profile of successes that are served from shared instances.
+ * <p>
+ * With {@code -prof gc}, {@link #run()}, {@link #ofBoolean()}, {@link #ofNull()} and
+ * {@link #ofSmallInteger()} are expected to report 0 B/op, while {@link #ofLargeInteger()}
+ * still allocates its {@code Success} and the boxed value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SharedSuccessBenchmark {
+
+    public int small = 42;
+    public int large = 123_456;
+    public boolean flag = true;
+    private int sideEffect;
+
+    @Benchmark
+    public Try<Void> run() {
+        return Try.run(() -> sideEffect++);
+    }
+
+    @Benchmark
+    public Try<Boolean> ofBoolean() {
+        return Try.of(() -> flag);
+    }
+
+    @Benchmark
+    public Try<Object> ofNull() {
+        return Try.of(() -> null);
+    }
+
+    @Benchmark
+    public Try<Integer> ofSmallInteger() {
+        return Try.of(() -> small);
+    }
+
+    @Benchmark
+    public Try<Integer> ofLargeInteger() {
+        return Try.of(() -> large);
+    }
+}
@@ -0,0 +1,67 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.Try;
+import io.github.abhipdgupta.tryutil.TryException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of producing a failure from deep inside a call stack.
+ * <p>
+ * {@link #stackTraced()} throws a regular exception, {@link #stackless()} throws a
+ * {@link TryException#stackless(String)} and {@link #returned()} hands a stackless failure back
+ * through {@link Try#failure(Throwable)} without throwing at all.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class StacklessFailureBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int depth;
+
+    @Benchmark
+    public Try<Integer> stackTraced() {
+        return Try.of(() -> throwAt(depth, false));
+    }
+
+    @Benchmark
+    public Try<Integer> stackless() {
+        return Try.of(() -> throwAt(depth, true));
+    }
+
+    @Benchmark
+    public Try<Integer> returned() {
+        return failAt(depth);
+    }
+
+    private static Integer throwAt(int remaining, boolean stackless) {
+        if (remaining == 0) {
+            if (stackless) {
+                throw TryException.stackless("invalid input");
+            }
+            throw new IllegalArgumentException("invalid input");
+        }
+        return throwAt(remaining - 1, stackless);
+    }
+
+    private static Try<Integer> failAt(int remaining) {
+        if (remaining == 0) {
+            return Try.failure(TryException.stackless("invalid input"));
+        }
+        return failAt(remaining - 1);
+    }
+}
@@ -0,0 +1,78 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.Try;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Try#traverse} and {@link Try#sequence} against the usual stream-based idiom of
+ * mapping to a list of {@code Try}s, searching it for a failure and unwrapping it again.
+ * Run with {@code -prof gc} to compare the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class TraverseBenchmark {
+
+    @Param({"10", "1000", "1000000"})
+    public int size;
+
+    private List<String> inputs;
+    private List<Try<Integer>> results;
+
+    @Setup
+    public void setUp() {
+        inputs = IntStream.range(0, size).mapToObj(Integer::toString).toList();
+        results = inputs.stream().map(TraverseBenchmark::parse).toList();
+    }
+
+    private static Try<Integer> parse(String s) {
+        return Try.of(() -> Integer.parseInt(s));
+    }
+
+    @Benchmark
+    public Try<List<Integer>> traverse() {
+        return Try.traverse(inputs, TraverseBenchmark::parse);
+    }
+
+    @Benchmark
+    public Try<List<Integer>> traverseStream() {
+        List<Try<Integer>> mapped = inputs.stream().map(TraverseBenchmark::parse).toList();
+        return sequenceStream(mapped);
+    }
+
+    @Benchmark
+    public Try<List<Integer>> sequence() {
+        return Try.sequence(results);
+    }
+
+    @Benchmark
+    public Try<List<Integer>> sequenceStream() {
+        return sequenceStream(results);
+    }
+
+    private static Try<List<Integer>> sequenceStream(List<Try<Integer>> tries) {
+        Optional<Try<Integer>> firstFailure = tries.stream().filter(Try::isFailure).findFirst();
+        if (firstFailure.isPresent()) {
+            return Try.failure(firstFailure.get().getCause());
+        }
+        return Try.success(tries.stream().map(Try::get).toList());
+    }
+}
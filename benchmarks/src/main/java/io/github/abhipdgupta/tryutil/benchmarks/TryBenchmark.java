@@ -0,0 +1,164 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil.benchmarks;
+
+import io.github.abhipdgupta.tryutil.Try;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the core {@link Try} operations on both the success and the failure path.
+ * <p>
+ * The failure path throws a preallocated exception so the numbers reflect the cost of the
+ * library rather than the cost of building a stack trace. The {@code handWritten*} methods
+ * are the plain try/catch baseline the {@code Try} variants should be compared against.
+ * <p>
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar TryBenchmark -prof gc} to also
+ * get the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class TryBenchmark {
+
+    private static final IllegalStateException UNCHECKED = new IllegalStateException("boom");
+    private static final IOException CHECKED = new IOException("boom");
+
+    private int input;
+    private Try<Integer> success;
+    private Try<Integer> failure;
+
+    @Setup
+    public void setUp() {
+        input = 42;
+        success = Try.of(() -> input);
+        failure = Try.of(TryBenchmark::throwUnchecked);
+    }
+
+    private static Integer throwUnchecked() {
+        throw UNCHECKED;
+    }
+
+    private static Integer throwChecked() throws IOException {
+        throw CHECKED;
+    }
+
+    @Benchmark
+    public Try<Integer> ofSuccess() {
+        return Try.of(() -> input);
+    }
+
+    @Benchmark
+    public Try<Integer> ofFailure() {
+        return Try.of(TryBenchmark::throwUnchecked);
+    }
+
+    @Benchmark
+    public Try<Integer> ofCheckedSuccess() {
+        return Try.ofChecked(() -> input);
+    }
+
+    @Benchmark
+    public Try<Integer> ofCheckedFailure() {
+        return Try.ofChecked(TryBenchmark::throwChecked);
+    }
+
+    @Benchmark
+    public Try<Integer> mapSuccess() {
+        return success.map(v -> v + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> mapFailure() {
+        return failure.map(v -> v + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> flatMapSuccess() {
+        return success.flatMap(v -> Try.of(() -> v + 1));
+    }
+
+    @Benchmark
+    public Try<Integer> flatMapFailure() {
+        return failure.flatMap(v -> Try.of(() -> v + 1));
+    }
+
+    @Benchmark
+    public Try<Integer> recoverSuccess() {
+        return success.recover(t -> -1);
+    }
+
+    @Benchmark
+    public Try<Integer> recoverFailure() {
+        return failure.recover(t -> -1);
+    }
+
+    @Benchmark
+    public Try<Integer> recoverClassSuccess() {
+        return success.recover(IllegalStateException.class, e -> -1);
+    }
+
+    @Benchmark
+    public Try<Integer> recoverClassFailure() {
+        return failure.recover(IllegalStateException.class, e -> -1);
+    }
+
+    @Benchmark
+    public Try<Integer> recoverClassFailureNoMatch() {
+        return failure.recover(IOException.class, e -> -1);
+    }
+
+    @Benchmark
+    public Integer getOrElseSuccess() {
+        return success.getOrElse(-1);
+    }
+
+    @Benchmark
+    public Integer getOrElseFailure() {
+        return failure.getOrElse(-1);
+    }
+
+    @Benchmark
+    public Integer getOrElseThrowSuccess() {
+        return success.getOrElseThrow();
+    }
+
+    @Benchmark
+    public Object getOrElseThrowFailure() {
+        try {
+            return failure.getOrElseThrow();
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Integer handWrittenSuccess() {
+        try {
+            return input;
+        } catch (IllegalStateException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Integer handWrittenFailure() {
+        try {
+            return throwUnchecked();
+        } catch (IllegalStateException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stops calling a failing dependency for a while, returning a failure immediately instead.
+ * <p>
+ * The breaker records the outcome of the last {@code windowSize} calls in a ring. While it is
+ * {@link State#CLOSED closed}, calls go through; once the window is full and the share of
+ * failures in it reaches {@code failureRateThreshold}, it opens. While it is
+ * {@link State#OPEN open}, {@link #call(ThrowingSupplier)} returns a shared Failure holding an
+ * {@link OpenException} without running the supplier, allocating an exception or capturing a
+ * stack trace. After {@code openDuration}, the next call becomes a single trial
+ * ({@link State#HALF_OPEN half-open}) while other calls are still rejected: if the trial
+ * succeeds the breaker closes with an empty window, otherwise it opens again. A trial that has
+ * not finished after {@link #trialTimeout(Duration) trialTimeout} is abandoned: the next call
+ * starts a new trial, and the outcome of the abandoned one is ignored.
+ * <p>
+ * Which failures count is decided like {@link Try#recover(Class, java.util.function.Function)}
+ * matches them, with {@link Class#isInstance(Object)}: by default every failure counts; after
+ * {@link #recordOn(Class)} only matching ones do, and failures matching an
+ * {@link #ignore(Class)} type never do. Failures that do not count are recorded as successful
+ * calls, since the dependency did respond.
+ * <p>
+ * All state is kept in atomics and updated with compare-and-set, so a breaker can be shared
+ * by any number of threads without locking.
+ */
+public final class CircuitBreaker {
+    private static final Failure<Object> REJECTED = new Failure<>(new OpenException());
+    private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+    /** The states of a breaker. */
+    public enum State {
+        /** Calls go through and their outcomes are recorded. */
+        CLOSED,
+        /** Calls are rejected without running. */
+        OPEN,
+        /** A single trial call is running; other calls are rejected. */
+        HALF_OPEN
+    }
+
+    /**
+     * The cause of the Failure returned while a breaker is open. A single stackless instance
+     * is shared by all breakers.
+     */
+    public static final class OpenException extends TryException {
+        private OpenException() {
+            super("circuit breaker is open", null, false, false);
+        }
+    }
+
+    /**
+     * A state, when it was entered and the window calls admitted in it record into. Every
+     * transition creates a new instance, so a caller holding the phase it observed earlier can
+     * never win a compare-and-set against a later phase that happens to have the same state.
+     */
+    private record Phase(State state, long sinceNanos, Window window) {}
+
+    /**
+     * The outcomes of the most recent calls. Closing the breaker starts a new window, so calls
+     * still finishing against the old one cannot disturb the count of the new one.
+     */
+    private static final class Window {
+        final AtomicIntegerArray ring;
+        final AtomicLong cursor = new AtomicLong();
+        final AtomicInteger failures = new AtomicInteger();
+
+        Window(int size) {
+            this.ring = new AtomicIntegerArray(size);
+        }
+    }
+
+    private final int windowSize;
+    private final int failureLimit;
+    private final long openNanos;
+    private final long trialNanos;
+    private final Class<?>[] recordOn;
+    private final Class<?>[] ignore;
+
+    private final AtomicReference<Phase> phase;
+    private final LongAdder rejected = new LongAdder();
+
+    private CircuitBreaker(
+            int windowSize,
+            int failureLimit,
+            long openNanos,
+            long trialNanos,
+            Class<?>[] recordOn,
+            Class<?>[] ignore) {
+        this.windowSize = windowSize;
+        this.failureLimit = failureLimit;
+        this.openNanos = openNanos;
+        this.trialNanos = trialNanos;
+        this.recordOn = recordOn;
+        this.ignore = ignore;
+        this.phase =
+                new AtomicReference<>(
+                        new Phase(State.CLOSED, System.nanoTime(), new Window(windowSize)));
+    }
+
+    /**
+     * Creates a closed breaker.
+     *
+     * @param windowSize           the number of most recent calls to consider
+     * @param failureRateThreshold the share of failed calls in the window, between 0
+     *                             (exclusive) and 1, at which the breaker opens
+     * @param openDuration         how long the breaker stays open before allowing a trial call;
+     *                             also the initial {@link #trialTimeout(Duration) trialTimeout}
+     * @return a new CircuitBreaker
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public static CircuitBreaker of(
+            int windowSize, double failureRateThreshold, Duration openDuration) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+        }
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException(
+                    "failureRateThreshold must be in (0, 1]: " + failureRateThreshold);
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException(
+                    "openDuration must not be negative: " + openDuration);
+        }
+        int failureLimit = Math.max(1, (int) Math.ceil(failureRateThreshold * windowSize));
+        long openNanos = openDuration.toNanos();
+        return new CircuitBreaker(
+                windowSize, failureLimit, openNanos, openNanos, NO_TYPES, NO_TYPES);
+    }
+
+    /**
+     * Returns a new, closed breaker with the same settings that abandons a half-open trial
+     * still running after {@code timeout}, so that a hung trial cannot keep the breaker
+     * rejecting calls forever. The trial itself is not interrupted.
+     *
+     * @param timeout how long a trial may run before the next call may start another one
+     * @return a new CircuitBreaker
+     * @throws IllegalArgumentException if {@code timeout} is negative
+     */
+    public CircuitBreaker trialTimeout(Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative: " + timeout);
+        }
+        return new CircuitBreaker(
+                windowSize, failureLimit, openNanos, timeout.toNanos(), recordOn, ignore);
+    }
+
+    /**
+     * Returns a new, closed breaker with the same settings that counts only failures of the
+     * given types, including {@code exClass}.
+     *
+     * @param exClass the exception type to count
+     * @return a new CircuitBreaker
+     */
+    public CircuitBreaker recordOn(Class<? extends Throwable> exClass) {
+        return new CircuitBreaker(
+                windowSize, failureLimit, openNanos, trialNanos, append(recordOn, exClass), ignore);
+    }
+
+    /**
+     * Returns a new, closed breaker with the same settings that never counts failures of type
+     * {@code exClass}.
+     *
+     * @param exClass the exception type to ignore
+     * @return a new CircuitBreaker
+     */
+    public CircuitBreaker ignore(Class<? extends Throwable> exClass) {
+        return new CircuitBreaker(
+                windowSize, failureLimit, openNanos, trialNanos, recordOn, append(ignore, exClass));
+    }
+
+    /**
+     * Runs {@code supplier} if the breaker permits it and records the outcome.
+     *
+     * @param supplier the computation
+     * @param <T>      the type of the result
+     * @return the outcome of {@code supplier}, or a Failure holding an {@link OpenException} if
+     *     the call was rejected
+     */
+    public <T> Try<T> call(ThrowingSupplier<T> supplier) {
+        Phase current = phase.get();
+        if (current.state() == State.CLOSED) {
+            Try<T> result = Try.ofChecked(supplier);
+            record(counts(result), current);
+            return result;
+        }
+        long wait = current.state() == State.OPEN ? openNanos : trialNanos;
+        if (System.nanoTime() - current.sinceNanos() >= wait) {
+            Phase claimed = new Phase(State.HALF_OPEN, System.nanoTime(), current.window());
+            if (phase.compareAndSet(current, claimed)) {
+                return trial(supplier, claimed);
+            }
+        }
+        rejected.increment();
+        return REJECTED.retype();
+    }
+
+    /**
+     * Returns the current state. An open breaker whose {@code openDuration} has passed stays
+     * {@link State#OPEN} until the next call starts a trial.
+     *
+     * @return the current state
+     */
+    public State state() {
+        return phase.get().state();
+    }
+
+    /**
+     * Returns the number of calls rejected so far.
+     *
+     * @return the rejected calls
+     */
+    public long rejectedCalls() {
+        return rejected.sum();
+    }
+
+    /**
+     * Runs a trial and moves the breaker on from the phase that admitted it. If the trial was
+     * abandoned in the meantime, the phase has changed and its outcome is ignored.
+     */
+    private <T> Try<T> trial(ThrowingSupplier<T> supplier, Phase claimed) {
+        Try<T> result = Try.ofChecked(supplier);
+        Phase next =
+                counts(result)
+                        ? new Phase(State.OPEN, System.nanoTime(), claimed.window())
+                        : new Phase(State.CLOSED, System.nanoTime(), new Window(windowSize));
+        phase.compareAndSet(claimed, next);
+        return result;
+    }
+
+    /**
+     * Writes the outcome into the next slot of the ring of the window that was current when
+     * the call was admitted, and adjusts the failure count by the difference to the outcome it
+     * replaces, so the count stays exact without locking. Opens the breaker once the window is
+     * full and the count reaches the limit.
+     */
+    private void record(boolean failed, Phase observed) {
+        Window current = observed.window();
+        long n = current.cursor.getAndIncrement();
+        int outcome = failed ? 1 : 0;
+        int replaced = current.ring.getAndSet((int) (n % windowSize), outcome);
+        int count = current.failures.addAndGet(outcome - replaced);
+        if (failed && n + 1 >= windowSize && count >= failureLimit) {
+            phase.compareAndSet(observed, new Phase(State.OPEN, System.nanoTime(), current));
+        }
+    }
+
+    private boolean counts(Try<?> result) {
+        if (!(result instanceof Failure<?>(var cause))) return false;
+        for (Class<?> type : ignore) {
+            if (type.isInstance(cause)) return false;
+        }
+        if (recordOn.length == 0) return true;
+        for (Class<?> type : recordOn) {
+            if (type.isInstance(cause)) return true;
+        }
+        return false;
+    }
+
+    private static Class<?>[] append(Class<?>[] types, Class<? extends Throwable> exClass) {
+        Class<?>[] extended = Arrays.copyOf(types, types.length + 1);
+        extended[types.length] = Objects.requireNonNull(exClass, "exClass");
+        return extended;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker("
+                + state()
+                + ", failures="
+                + phase.get().window().failures.get()
+                + "/"
+                + windowSize
+                + ")";
+    }
+}
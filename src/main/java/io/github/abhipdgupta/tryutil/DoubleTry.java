@@ -0,0 +1,246 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link Try} specialized for {@code double} results.
+ * <p>
+ * The value is stored unboxed, so chains of {@code map} calls on numbers do not allocate an
+ * {@code Double} per stage. Use {@link #boxed()} or {@link #mapToObj(DoubleFunction)} to continue
+ * with a regular {@code Try}.
+ */
+public final class DoubleTry {
+    private final double value;
+    private final Throwable cause;
+
+    private DoubleTry(double value, Throwable cause) {
+        this.value = value;
+        this.cause = cause;
+    }
+
+    /**
+     * Wraps a computation that may throw an exception into an {@code DoubleTry}.
+     *
+     * @param supplier the computation
+     * @return a success with the value or a failure with the exception
+     */
+    public static DoubleTry ofDouble(DoubleSupplier supplier) {
+        double result;
+        try {
+            result = supplier.getAsDouble();
+        } catch (Throwable t) {
+            return new DoubleTry(0, t);
+        }
+        return new DoubleTry(result, null);
+    }
+
+    /**
+     * Creates a successful {@code DoubleTry}.
+     *
+     * @param value the value
+     * @return a success holding {@code value}
+     */
+    public static DoubleTry success(double value) {
+        return new DoubleTry(value, null);
+    }
+
+    /**
+     * Creates a failed {@code DoubleTry}.
+     *
+     * @param cause the cause of the failure
+     * @return a failure holding {@code cause}
+     */
+    public static DoubleTry failure(Throwable cause) {
+        return new DoubleTry(0, Objects.requireNonNull(cause, "cause"));
+    }
+
+    /**
+     * Returns {@code true} if this represents a successful computation.
+     *
+     * @return true if success
+     */
+    public boolean isSuccess() {
+        return cause == null;
+    }
+
+    /**
+     * Returns {@code true} if this represents a failed computation.
+     *
+     * @return true if failure
+     */
+    public boolean isFailure() {
+        return cause != null;
+    }
+
+    /**
+     * Returns the value if success, otherwise throws a {@link TryException} wrapping the cause.
+     *
+     * @return the successful value
+     * @throws TryException wrapping the original exception if this is a failure
+     */
+    public double get() throws TryException {
+        if (cause != null) throw TryException.unwrapping(cause);
+        return value;
+    }
+
+    /**
+     * Returns the cause of failure.
+     *
+     * @return the exception cause
+     * @throws IllegalStateException if this is a success
+     */
+    public Throwable getCause() {
+        if (cause == null) throw new IllegalStateException("Success has no cause");
+        return cause;
+    }
+
+    /**
+     * Transforms the successful value.
+     *
+     * @param mapper the function to transform the value
+     * @return a new DoubleTry with the transformed value or this failure
+     */
+    public DoubleTry map(DoubleUnaryOperator mapper) {
+        if (cause != null) return this;
+        double result;
+        try {
+            result = mapper.applyAsDouble(value);
+        } catch (Throwable t) {
+            return new DoubleTry(0, t);
+        }
+        return new DoubleTry(result, null);
+    }
+
+    /**
+     * Flat-maps the successful value using a function returning an {@code DoubleTry}.
+     *
+     * @param mapper the function to transform the value
+     * @return the result of {@code mapper} or this failure
+     */
+    public DoubleTry flatMap(DoubleFunction<DoubleTry> mapper) {
+        if (cause != null) return this;
+        try {
+            return mapper.apply(value);
+        } catch (Throwable t) {
+            return new DoubleTry(0, t);
+        }
+    }
+
+    /**
+     * Transforms the successful value into an object, continuing as a regular {@code Try}.
+     *
+     * @param mapper the function to transform the value
+     * @param <U>    the type of the transformed value
+     * @return a Try with the transformed value or the original failure
+     */
+    public <U> Try<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        if (cause != null) return new Failure<>(cause);
+        U result;
+        try {
+            result = mapper.apply(value);
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+        return Success.valueOf(result);
+    }
+
+    /**
+     * Converts this into a regular {@code Try}, boxing the value.
+     *
+     * @return a Try holding the boxed value or the original failure
+     */
+    public Try<Double> boxed() {
+        return cause != null ? new Failure<>(cause) : Success.valueOf(value);
+    }
+
+    /**
+     * Returns the successful value or a default if failure.
+     *
+     * @param other default value
+     * @return the value or default
+     */
+    public double getOrElse(double other) {
+        return cause != null ? other : value;
+    }
+
+    /**
+     * Returns the value if success, otherwise throws the original exception.
+     *
+     * @return the value
+     */
+    public double getOrElseThrow() {
+        if (cause != null) Failure.sneakyThrow(cause);
+        return value;
+    }
+
+    /**
+     * Recovers from a failure by providing a fallback value.
+     *
+     * @param recoverFunc the function to provide fallback
+     * @return a new DoubleTry with fallback or this success
+     */
+    public DoubleTry recover(ToDoubleFunction<Throwable> recoverFunc) {
+        if (cause == null) return this;
+        double result;
+        try {
+            result = recoverFunc.applyAsDouble(cause);
+        } catch (Throwable t) {
+            return new DoubleTry(0, t);
+        }
+        return new DoubleTry(result, null);
+    }
+
+    /**
+     * Recovers from a failure selectively for a specific exception type.
+     *
+     * @param exClass     the exception type to recover from
+     * @param recoverFunc the function providing fallback
+     * @param <E>         type of exception
+     * @return a new DoubleTry with fallback or this
+     */
+    public <E extends Throwable> DoubleTry recover(
+            Class<E> exClass, ToDoubleFunction<? super E> recoverFunc) {
+        if (cause == null || !exClass.isInstance(cause)) return this;
+        double result;
+        try {
+            result = recoverFunc.applyAsDouble(exClass.cast(cause));
+        } catch (Throwable t) {
+            return new DoubleTry(0, t);
+        }
+        return new DoubleTry(result, null);
+    }
+
+    /**
+     * Performs a side-effect action if this is success.
+     *
+     * @param action the consumer to accept the value
+     * @return this DoubleTry
+     */
+    public DoubleTry onSuccess(DoubleConsumer action) {
+        if (cause == null) action.accept(value);
+        return this;
+    }
+
+    /**
+     * Performs a side-effect action if this is failure.
+     *
+     * @param action the consumer to accept the exception
+     * @return this DoubleTry
+     */
+    public DoubleTry onFailure(Consumer<? super Throwable> action) {
+        if (cause != null) action.accept(cause);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return cause != null ? "Failure(" + cause + ")" : "Success(" + value + ")";
+    }
+}
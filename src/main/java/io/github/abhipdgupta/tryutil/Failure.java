@@ -1,14 +1,20 @@
 /* (C)2025 */
 package io.github.abhipdgupta.tryutil;
 
+import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
-final class Failure<T> extends Try<T> {
-    private final Throwable cause;
-
-    Failure(Throwable cause) {
-        this.cause = cause;
+/**
+ * A failed {@link Try} holding the exception thrown by the computation.
+ *
+ * @param cause the exception, never {@code null}
+ * @param <T>   the type the computation would have produced
+ */
+public record Failure<T>(Throwable cause) implements Try<T> {
+    public Failure {
+        Objects.requireNonNull(cause, "cause");
     }
 
     @Override
@@ -23,7 +29,7 @@ final class Failure<T> extends Try<T> {
 
     @Override
     public T get() throws TryException {
-        throw new TryException(cause);
+        throw TryException.unwrapping(cause);
     }
 
     @Override
@@ -33,12 +39,44 @@ final class Failure<T> extends Try<T> {
 
     @Override
     public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
-        return new Failure<>(cause);
+        return retype();
     }
 
     @Override
     public <U> Try<U> flatMap(Function<? super T, Try<U>> mapper) {
-        return new Failure<>(cause);
+        return retype();
+    }
+
+    @Override
+    public <C, U> Try<U> map(C ctx, BiFunction<? super C, ? super T, ? extends U> mapper) {
+        return retype();
+    }
+
+    @Override
+    public <C, U> Try<U> flatMap(C ctx, BiFunction<? super C, ? super T, Try<U>> mapper) {
+        return retype();
+    }
+
+    @Override
+    public <U> Try<U> mapChecked(ThrowingFunction<? super T, ? extends U> mapper) {
+        return retype();
+    }
+
+    @Override
+    public <U> Try<U> flatMapChecked(ThrowingFunction<? super T, Try<U>> mapper) {
+        return retype();
+    }
+
+    @Override
+    public <C, U> Try<U> mapChecked(
+            C ctx, ThrowingBiFunction<? super C, ? super T, ? extends U> mapper) {
+        return retype();
+    }
+
+    @Override
+    public <C, U> Try<U> flatMapChecked(
+            C ctx, ThrowingBiFunction<? super C, ? super T, Try<U>> mapper) {
+        return retype();
     }
 
     @Override
@@ -46,10 +84,43 @@ final class Failure<T> extends Try<T> {
         return other;
     }
 
+    @Override
+    public T getOrElseGet(Function<? super Throwable, ? extends T> other) {
+        return other.apply(cause);
+    }
+
     @Override
     public Try<T> recover(Function<Throwable, ? extends T> recoverFunc) {
         try {
-            return new Success<>(recoverFunc.apply(cause));
+            return recovered(recoverFunc.apply(cause));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public <C> Try<T> recover(C ctx, BiFunction<? super C, Throwable, ? extends T> recoverFunc) {
+        try {
+            return recovered(recoverFunc.apply(ctx, cause));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public Try<T> recoverChecked(ThrowingFunction<? super Throwable, ? extends T> recoverFunc) {
+        try {
+            return recovered(recoverFunc.apply(cause));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public <C> Try<T> recoverChecked(
+            C ctx, ThrowingBiFunction<? super C, Throwable, ? extends T> recoverFunc) {
+        try {
+            return recovered(recoverFunc.apply(ctx, cause));
         } catch (Throwable t) {
             return new Failure<>(t);
         }
@@ -60,7 +131,7 @@ final class Failure<T> extends Try<T> {
             Class<E> exClass, Function<? super E, ? extends T> recoverFunc) {
         if (exClass.isInstance(cause)) {
             try {
-                return new Success<>(recoverFunc.apply(exClass.cast(cause)));
+                return recovered(recoverFunc.apply(exClass.cast(cause)));
             } catch (Throwable t) {
                 return new Failure<>(t);
             }
@@ -73,12 +144,45 @@ final class Failure<T> extends Try<T> {
         return this;
     }
 
+    @Override
+    public Try<T> onSuccessChecked(ThrowingConsumer<? super T> action) {
+        return this;
+    }
+
     @Override
     public Try<T> onFailure(Consumer<? super Throwable> action) {
         action.accept(cause);
         return this;
     }
 
+    private Try<T> recovered(T value) {
+        onRecovered(cause);
+        return Success.valueOf(value);
+    }
+
+    /** Reports that a failure with {@code cause} was turned into a success. */
+    static void onRecovered(Throwable cause) {
+        TryEvents.recovered(cause);
+        if (TryMetrics.ENABLED) TryMetrics.global().recordRecovery();
+    }
+
+    /**
+     * Returns this failure viewed as a {@code Try} of another type. A failure never holds a
+     * value, so the cast is safe and lets the same instance travel through a whole chain.
+     */
+    @SuppressWarnings("unchecked")
+    <U> Try<U> retype() {
+        return (Try<U>) this;
+    }
+
+    /**
+     * Utility to rethrow a checked exception without wrapping.
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Throwable> void sneakyThrow(Throwable t) throws E {
+        throw (E) t;
+    }
+
     @Override
     public String toString() {
         return "Failure(" + cause + ")";
@@ -0,0 +1,251 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the most frequent failure signatures in fixed memory.
+ * <p>
+ * A signature is the exception class plus the top frames of its stack trace, so the same
+ * failure thrown from different places is told apart while messages holding ids or
+ * timestamps are not. Every failure is counted in a Count-Min sketch, an array of counters
+ * indexed by several hashes of the signature whose smallest counter estimates how often it
+ * was seen, never too low and rarely too high by more than 0.07% of all failures; the sketch
+ * takes 128 KB whatever the number of failures. The {@code k} signatures with the highest
+ * estimates are kept in a table, together with the message of their first occurrence; when a
+ * signature outside the table overtakes the least frequent one inside, it takes its place, as
+ * in the Space-Saving algorithm.
+ * <p>
+ * With a {@code stackDepth} of 0 a signature is the class alone, and counting a failure costs
+ * a few hash computations and atomic increments. Any larger depth calls
+ * {@link Throwable#getStackTrace()}, which builds and copies the whole trace on every failure
+ * and dominates the cost.
+ * <p>
+ * It is a {@code Consumer<Throwable>}, so it can be attached to any failure:
+ * <pre>{@code
+ * static final FailureTopK FAILURES = FailureTopK.create(10, 5);
+ *
+ * Try.ofChecked(() -> client.send(request)).onFailure(FAILURES);
+ * List<FailureTopK.Signature> top = FAILURES.top();
+ * }</pre>
+ * Counting a failure that is already in the table takes no lock; only a signature entering
+ * the table does. Counts are read from the sketch when {@link #top()} is called, so they
+ * include every increment that completed before.
+ */
+public final class FailureTopK implements Consumer<Throwable> {
+    private static final int ROWS = 4;
+    private static final int WIDTH = 4096;
+
+    /**
+     * A frequent failure signature.
+     *
+     * @param type    the name of the exception class
+     * @param frames  the top frames of the stack trace, empty for stackless exceptions
+     * @param message the message of the first failure seen with this signature
+     * @param count   the estimated number of failures with this signature
+     */
+    public record Signature(
+            String type, List<StackTraceElement> frames, String message, long count) {}
+
+    /**
+     * A tracked signature. It holds the class name rather than the class, so that tracking a
+     * failure does not keep the class loader that defined it reachable.
+     */
+    private static final class Entry {
+        final long fingerprint;
+        final String type;
+        final List<StackTraceElement> frames;
+        final String message;
+
+        Entry(long fingerprint, String type, StackTraceElement[] frames, String message) {
+            this.fingerprint = fingerprint;
+            this.type = type;
+            this.frames = List.of(frames);
+            this.message = message;
+        }
+    }
+
+    private static final StackTraceElement[] NO_FRAMES = new StackTraceElement[0];
+
+    private final int k;
+    private final int stackDepth;
+    private final AtomicLongArray sketch;
+    private final ConcurrentHashMap<Long, Entry> table;
+    private final LongAdder total = new LongAdder();
+    private volatile long threshold;
+
+    private FailureTopK(int k, int stackDepth) {
+        this.k = k;
+        this.stackDepth = stackDepth;
+        this.sketch = new AtomicLongArray(ROWS * WIDTH);
+        this.table = new ConcurrentHashMap<>(k * 2);
+    }
+
+    /**
+     * Creates an empty tracker.
+     *
+     * @param k          the number of signatures to keep, between 1 and 1024
+     * @param stackDepth the number of stack frames in a signature, 0 for the class alone
+     * @return a new FailureTopK
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public static FailureTopK create(int k, int stackDepth) {
+        if (k < 1 || k > 1024) {
+            throw new IllegalArgumentException("k must be in [1, 1024]: " + k);
+        }
+        if (stackDepth < 0) {
+            throw new IllegalArgumentException("stackDepth must not be negative: " + stackDepth);
+        }
+        return new FailureTopK(k, stackDepth);
+    }
+
+    /**
+     * Counts a failure.
+     *
+     * @param cause the exception
+     */
+    @Override
+    public void accept(Throwable cause) {
+        StackTraceElement[] trace = stackDepth == 0 ? NO_FRAMES : cause.getStackTrace();
+        int depth = Math.min(stackDepth, trace.length);
+        long fingerprint = fingerprint(cause.getClass(), trace, depth);
+        long estimate = increment(fingerprint);
+        total.increment();
+
+        if (estimate > threshold && !table.containsKey(fingerprint)) {
+            Entry entry =
+                    new Entry(
+                            fingerprint,
+                            cause.getClass().getName(),
+                            Arrays.copyOf(trace, depth),
+                            messageOf(cause));
+            admit(entry, estimate);
+        }
+    }
+
+    /**
+     * Returns the tracked signatures, most frequent first.
+     *
+     * @return at most {@code k} signatures
+     */
+    public List<Signature> top() {
+        List<Signature> signatures = new ArrayList<>(table.size());
+        for (Entry entry : table.values()) {
+            signatures.add(
+                    new Signature(
+                            entry.type, entry.frames, entry.message, estimate(entry.fingerprint)));
+        }
+        signatures.sort(Comparator.comparingLong(Signature::count).reversed());
+        return signatures;
+    }
+
+    /**
+     * Returns the number of failures counted.
+     *
+     * @return the total
+     */
+    public long total() {
+        return total.sum();
+    }
+
+    /**
+     * Forgets all failures. Failures counted concurrently may be lost.
+     */
+    public synchronized void reset() {
+        table.clear();
+        threshold = 0;
+        for (int i = 0; i < sketch.length(); i++) {
+            sketch.set(i, 0);
+        }
+        total.reset();
+    }
+
+    /** Adds one to the counter of {@code fingerprint} in every row and returns the smallest. */
+    private long increment(long fingerprint) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < ROWS; row++) {
+            estimate = Math.min(estimate, sketch.incrementAndGet(slot(fingerprint, row)));
+        }
+        return estimate;
+    }
+
+    /** Returns the smallest counter of {@code fingerprint}, its estimated count. */
+    private long estimate(long fingerprint) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < ROWS; row++) {
+            estimate = Math.min(estimate, sketch.get(slot(fingerprint, row)));
+        }
+        return estimate;
+    }
+
+    /** Returns the counter of {@code fingerprint} in {@code row}, derived by double hashing. */
+    private static int slot(long fingerprint, int row) {
+        int h1 = (int) fingerprint;
+        int h2 = (int) (fingerprint >>> 32) | 1;
+        return row * WIDTH + ((h1 + row * h2) & (WIDTH - 1));
+    }
+
+    /**
+     * Puts a signature into the table, evicting the least frequent one if the table is full
+     * and the newcomer is estimated to be more frequent. The entry is built by the caller, so
+     * no user code such as {@link Throwable#getMessage()} runs while holding the lock.
+     */
+    private synchronized void admit(Entry entry, long estimate) {
+        if (table.containsKey(entry.fingerprint)) return;
+        if (table.size() >= k) {
+            Entry least = least();
+            long leastCount = estimate(least.fingerprint);
+            if (leastCount >= estimate) {
+                threshold = leastCount;
+                return;
+            }
+            table.remove(least.fingerprint);
+        }
+        table.put(entry.fingerprint, entry);
+        threshold = table.size() < k ? 0 : estimate(least().fingerprint);
+    }
+
+    private Entry least() {
+        Entry least = null;
+        long leastCount = Long.MAX_VALUE;
+        for (Entry entry : table.values()) {
+            long count = estimate(entry.fingerprint);
+            if (count < leastCount) {
+                least = entry;
+                leastCount = count;
+            }
+        }
+        return least;
+    }
+
+    private static String messageOf(Throwable cause) {
+        try {
+            return cause.getMessage();
+        } catch (Throwable t) {
+            return "<getMessage() threw " + t.getClass().getName() + ">";
+        }
+    }
+
+    private static long fingerprint(Class<?> type, StackTraceElement[] trace, int depth) {
+        long hash = type.getName().hashCode();
+        for (int i = 0; i < depth; i++) {
+            hash = hash * 0x9E3779B97F4A7C15L + trace[i].hashCode();
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "FailureTopK(total=" + total() + ", top=" + top() + ")";
+    }
+}
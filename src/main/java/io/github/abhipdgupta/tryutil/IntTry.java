@@ -0,0 +1,246 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link Try} specialized for {@code int} results.
+ * <p>
+ * The value is stored unboxed, so chains of {@code map} calls on numbers do not allocate an
+ * {@code Integer} per stage. Use {@link #boxed()} or {@link #mapToObj(IntFunction)} to continue
+ * with a regular {@code Try}.
+ */
+public final class IntTry {
+    private final int value;
+    private final Throwable cause;
+
+    private IntTry(int value, Throwable cause) {
+        this.value = value;
+        this.cause = cause;
+    }
+
+    /**
+     * Wraps a computation that may throw an exception into an {@code IntTry}.
+     *
+     * @param supplier the computation
+     * @return a success with the value or a failure with the exception
+     */
+    public static IntTry ofInt(IntSupplier supplier) {
+        int result;
+        try {
+            result = supplier.getAsInt();
+        } catch (Throwable t) {
+            return new IntTry(0, t);
+        }
+        return new IntTry(result, null);
+    }
+
+    /**
+     * Creates a successful {@code IntTry}.
+     *
+     * @param value the value
+     * @return a success holding {@code value}
+     */
+    public static IntTry success(int value) {
+        return new IntTry(value, null);
+    }
+
+    /**
+     * Creates a failed {@code IntTry}.
+     *
+     * @param cause the cause of the failure
+     * @return a failure holding {@code cause}
+     */
+    public static IntTry failure(Throwable cause) {
+        return new IntTry(0, Objects.requireNonNull(cause, "cause"));
+    }
+
+    /**
+     * Returns {@code true} if this represents a successful computation.
+     *
+     * @return true if success
+     */
+    public boolean isSuccess() {
+        return cause == null;
+    }
+
+    /**
+     * Returns {@code true} if this represents a failed computation.
+     *
+     * @return true if failure
+     */
+    public boolean isFailure() {
+        return cause != null;
+    }
+
+    /**
+     * Returns the value if success, otherwise throws a {@link TryException} wrapping the cause.
+     *
+     * @return the successful value
+     * @throws TryException wrapping the original exception if this is a failure
+     */
+    public int get() throws TryException {
+        if (cause != null) throw TryException.unwrapping(cause);
+        return value;
+    }
+
+    /**
+     * Returns the cause of failure.
+     *
+     * @return the exception cause
+     * @throws IllegalStateException if this is a success
+     */
+    public Throwable getCause() {
+        if (cause == null) throw new IllegalStateException("Success has no cause");
+        return cause;
+    }
+
+    /**
+     * Transforms the successful value.
+     *
+     * @param mapper the function to transform the value
+     * @return a new IntTry with the transformed value or this failure
+     */
+    public IntTry map(IntUnaryOperator mapper) {
+        if (cause != null) return this;
+        int result;
+        try {
+            result = mapper.applyAsInt(value);
+        } catch (Throwable t) {
+            return new IntTry(0, t);
+        }
+        return new IntTry(result, null);
+    }
+
+    /**
+     * Flat-maps the successful value using a function returning an {@code IntTry}.
+     *
+     * @param mapper the function to transform the value
+     * @return the result of {@code mapper} or this failure
+     */
+    public IntTry flatMap(IntFunction<IntTry> mapper) {
+        if (cause != null) return this;
+        try {
+            return mapper.apply(value);
+        } catch (Throwable t) {
+            return new IntTry(0, t);
+        }
+    }
+
+    /**
+     * Transforms the successful value into an object, continuing as a regular {@code Try}.
+     *
+     * @param mapper the function to transform the value
+     * @param <U>    the type of the transformed value
+     * @return a Try with the transformed value or the original failure
+     */
+    public <U> Try<U> mapToObj(IntFunction<? extends U> mapper) {
+        if (cause != null) return new Failure<>(cause);
+        U result;
+        try {
+            result = mapper.apply(value);
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+        return Success.valueOf(result);
+    }
+
+    /**
+     * Converts this into a regular {@code Try}, boxing the value.
+     *
+     * @return a Try holding the boxed value or the original failure
+     */
+    public Try<Integer> boxed() {
+        return cause != null ? new Failure<>(cause) : Success.valueOf(value);
+    }
+
+    /**
+     * Returns the successful value or a default if failure.
+     *
+     * @param other default value
+     * @return the value or default
+     */
+    public int getOrElse(int other) {
+        return cause != null ? other : value;
+    }
+
+    /**
+     * Returns the value if success, otherwise throws the original exception.
+     *
+     * @return the value
+     */
+    public int getOrElseThrow() {
+        if (cause != null) Failure.sneakyThrow(cause);
+        return value;
+    }
+
+    /**
+     * Recovers from a failure by providing a fallback value.
+     *
+     * @param recoverFunc the function to provide fallback
+     * @return a new IntTry with fallback or this success
+     */
+    public IntTry recover(ToIntFunction<Throwable> recoverFunc) {
+        if (cause == null) return this;
+        int result;
+        try {
+            result = recoverFunc.applyAsInt(cause);
+        } catch (Throwable t) {
+            return new IntTry(0, t);
+        }
+        return new IntTry(result, null);
+    }
+
+    /**
+     * Recovers from a failure selectively for a specific exception type.
+     *
+     * @param exClass     the exception type to recover from
+     * @param recoverFunc the function providing fallback
+     * @param <E>         type of exception
+     * @return a new IntTry with fallback or this
+     */
+    public <E extends Throwable> IntTry recover(
+            Class<E> exClass, ToIntFunction<? super E> recoverFunc) {
+        if (cause == null || !exClass.isInstance(cause)) return this;
+        int result;
+        try {
+            result = recoverFunc.applyAsInt(exClass.cast(cause));
+        } catch (Throwable t) {
+            return new IntTry(0, t);
+        }
+        return new IntTry(result, null);
+    }
+
+    /**
+     * Performs a side-effect action if this is success.
+     *
+     * @param action the consumer to accept the value
+     * @return this IntTry
+     */
+    public IntTry onSuccess(IntConsumer action) {
+        if (cause == null) action.accept(value);
+        return this;
+    }
+
+    /**
+     * Performs a side-effect action if this is failure.
+     *
+     * @param action the consumer to accept the exception
+     * @return this IntTry
+     */
+    public IntTry onFailure(Consumer<? super Throwable> action) {
+        if (cause != null) action.accept(cause);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return cause != null ? "Failure(" + cause + ")" : "Success(" + value + ")";
+    }
+}
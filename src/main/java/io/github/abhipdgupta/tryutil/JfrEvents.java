@@ -0,0 +1,123 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder events emitted by {@link Try}, reached only through {@link TryEvents}
+ * so that nothing links against {@code jdk.jfr} on a runtime without it.
+ * <p>
+ * Every hook creates its event and checks {@link Event#isEnabled()} or
+ * {@link Event#shouldCommit()} before doing anything else. While no recording has the event
+ * enabled, that check is false and the event object is never used, so the JIT removes both;
+ * the hooks cost nothing outside a recording.
+ * <p>
+ * Like all custom events, they are enabled in any recording unless its settings turn them off,
+ * so {@code jcmd <pid> JFR.start} is enough. The stack trace of each event shows the call site.
+ * The threshold of {@code TrySlowComputation} can be changed in the recording settings, e.g.
+ * {@code io.github.abhipdgupta.tryutil.TrySlowComputation#threshold=100 ms} in a {@code .jfc}
+ * file.
+ */
+final class JfrEvents {
+    private JfrEvents() {}
+
+    /** A {@code Try.of} or {@code Try.ofChecked} computation failed. */
+    @Name("io.github.abhipdgupta.tryutil.TryFailure")
+    @Label("Try Failure")
+    @Category("try-util")
+    @Description("A computation wrapped by Try.of or Try.ofChecked threw an exception")
+    @StackTrace(true)
+    static final class TryFailure extends Event {
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+
+        @Label("Message")
+        String message;
+    }
+
+    /** A {@code recover} call turned a failure into a success. */
+    @Name("io.github.abhipdgupta.tryutil.TryRecovered")
+    @Label("Try Recovered")
+    @Category("try-util")
+    @Description("A recover function turned a Failure into a Success")
+    @StackTrace(true)
+    static final class TryRecovered extends Event {
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+    }
+
+    /**
+     * A {@code Try.of} or {@code Try.ofChecked} computation took longer than the threshold,
+     * 20 ms unless the recording settings give another one.
+     */
+    @Name("io.github.abhipdgupta.tryutil.TrySlowComputation")
+    @Label("Try Slow Computation")
+    @Category("try-util")
+    @Description("A computation wrapped by Try.of or Try.ofChecked exceeded the threshold")
+    @StackTrace(true)
+    @Threshold("20 ms")
+    static final class TrySlowComputation extends Event {
+        @Label("Failed")
+        boolean failed;
+    }
+
+    /**
+     * Starts timing a computation.
+     *
+     * @return the started event, or {@code null} if slow computations are not recorded
+     */
+    static Object beginComputation() {
+        TrySlowComputation event = new TrySlowComputation();
+        if (!event.isEnabled()) return null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends timing a computation started with {@link #beginComputation()} and commits it if it
+     * exceeded the threshold.
+     */
+    static void endComputation(Object started, boolean failed) {
+        if (!(started instanceof TrySlowComputation event)) return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    static void failure(Throwable cause) {
+        TryFailure event = new TryFailure();
+        if (event.shouldCommit()) {
+            event.exceptionClass = cause.getClass();
+            event.message = messageOf(cause);
+            event.commit();
+        }
+    }
+
+    static void recovered(Throwable cause) {
+        TryRecovered event = new TryRecovered();
+        if (event.shouldCommit()) {
+            event.exceptionClass = cause.getClass();
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the message of {@code cause}. It comes from user code, which may throw; that
+     * must not turn recording a failure into a new one.
+     */
+    private static String messageOf(Throwable cause) {
+        try {
+            return cause.getMessage();
+        } catch (Throwable t) {
+            return "<getMessage() threw " + t.getClass().getName() + ">";
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size histogram of durations in nanoseconds, recorded without locks or allocation.
+ * <p>
+ * Buckets are log-linear, as in HdrHistogram: values below 128 ns have a bucket each, and
+ * every further power of two is split into 64 equal buckets. Every recorded value is therefore
+ * known to within 1/64 (about 1.6%) of itself, and the histogram takes about 19 KB whatever
+ * the number of samples. Values above about 73 minutes are counted in the last bucket.
+ * <p>
+ * Recording is a single {@link AtomicLongArray#getAndIncrement(int)}. A {@link Snapshot} copies
+ * the counts and answers percentile queries; counts recorded while it is taken may or may not
+ * be included.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int MAX_MAGNITUDE = 41;
+    private static final int BUCKETS =
+            LINEAR_LIMIT + (MAX_MAGNITUDE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds; negative values count as 0
+     */
+    public void record(long nanos) {
+        counts.getAndIncrement(indexOf(nanos));
+    }
+
+    /**
+     * Copies the current counts.
+     *
+     * @return a snapshot of this histogram
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy);
+    }
+
+    /**
+     * Copies the current counts and sets them to zero, without losing concurrent records: each
+     * one ends up either in the returned snapshot or in the histogram.
+     *
+     * @return a snapshot of the counts before the reset
+     */
+    public Snapshot snapshotAndReset() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.getAndSet(i, 0);
+        }
+        return new Snapshot(copy);
+    }
+
+    /** Sets all counts to zero. */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * Returns the bucket of {@code nanos}: the value itself below 128, otherwise the power of
+     * two above 64 it falls in, followed by its top seven bits.
+     */
+    static int indexOf(long nanos) {
+        if (nanos < LINEAR_LIMIT) return nanos < 0 ? 0 : (int) nanos;
+        int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+        if (magnitude > MAX_MAGNITUDE) return BUCKETS - 1;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) (nanos >>> shift) - SUB_BUCKETS;
+    }
+
+    /** Returns the middle of the range of values that fall into bucket {@code index}. */
+    static long valueOf(int index) {
+        if (index < LINEAR_LIMIT) return index;
+        int offset = index - LINEAR_LIMIT;
+        int shift = offset / SUB_BUCKETS + 1;
+        long lower = (long) (offset % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lower + (1L << (shift - 1));
+    }
+
+    /** The counts of a {@link LatencyHistogram} at one point in time. */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long total;
+
+        Snapshot(long[] counts) {
+            this.counts = counts;
+            long sum = 0;
+            for (long count : counts) {
+                sum += count;
+            }
+            this.total = sum;
+        }
+
+        /**
+         * Returns the number of recorded values.
+         *
+         * @return the count
+         */
+        public long count() {
+            return total;
+        }
+
+        /**
+         * Returns the value below which the given share of recorded values fall.
+         *
+         * @param quantile the share, between 0 and 1, e.g. {@code 0.99}
+         * @return the value in nanoseconds, within about 1.6%, or 0 if nothing was recorded
+         * @throws IllegalArgumentException if {@code quantile} is outside [0, 1]
+         */
+        public long valueAtQuantile(double quantile) {
+            if (!(quantile >= 0 && quantile <= 1)) {
+                throw new IllegalArgumentException("quantile must be in [0, 1]: " + quantile);
+            }
+            if (total == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return valueOf(i);
+            }
+            return valueOf(counts.length - 1);
+        }
+
+        /**
+         * Returns the median.
+         *
+         * @return the 50th percentile
+         */
+        public Duration p50() {
+            return Duration.ofNanos(valueAtQuantile(0.5));
+        }
+
+        /**
+         * Returns the 99th percentile.
+         *
+         * @return the 99th percentile
+         */
+        public Duration p99() {
+            return Duration.ofNanos(valueAtQuantile(0.99));
+        }
+
+        /**
+         * Returns the 99.9th percentile.
+         *
+         * @return the 99.9th percentile
+         */
+        public Duration p999() {
+            return Duration.ofNanos(valueAtQuantile(0.999));
+        }
+
+        /**
+         * Returns the largest recorded value.
+         *
+         * @return the maximum, within about 1.6%, or zero if nothing was recorded
+         */
+        public Duration max() {
+            return Duration.ofNanos(valueAtQuantile(1));
+        }
+
+        /**
+         * Returns the mean of the recorded values.
+         *
+         * @return the mean, within about 1.6%, or zero if nothing was recorded
+         */
+        public Duration mean() {
+            if (total == 0) return Duration.ZERO;
+            double sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) sum += (double) counts[i] * valueOf(i);
+            }
+            return Duration.ofNanos(Math.round(sum / total));
+        }
+
+        @Override
+        public String toString() {
+            return "LatencyHistogram.Snapshot(count="
+                    + total
+                    + ", p50="
+                    + p50()
+                    + ", p99="
+                    + p99()
+                    + ", p999="
+                    + p999()
+                    + ", max="
+                    + max()
+                    + ")";
+        }
+    }
+}
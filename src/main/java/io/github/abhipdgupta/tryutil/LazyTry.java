@@ -0,0 +1,250 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A deferred {@link Try} whose computation runs only when its outcome is first needed, created with
+ * {@link Try#lazy(ThrowingSupplier)}.
+ * <p>
+ * The computation runs at most once. The first thread that needs the outcome runs it and
+ * publishes the resulting {@code Try}; other threads asking at the same time park until it is
+ * available. Publication is lock-free and does not use {@code synchronized}, so virtual threads
+ * waiting for the outcome are never pinned to their carrier.
+ * <p>
+ * {@code map}, {@code flatMap} and {@code recover} return new lazy values without running
+ * anything. The query methods ({@code isSuccess}, {@code get}, {@link #toTry()}, ...) run the
+ * computation if needed.
+ * <p>
+ * {@code LazyTry} is not itself a {@code Try}: {@code Try} is sealed to {@link Success} and
+ * {@link Failure} so that a {@code switch} over it stays exhaustive. Use {@link #toTry()} to
+ * obtain the evaluated outcome.
+ *
+ * @param <T> the type of the successful result
+ */
+public final class LazyTry<T> {
+    private static final VarHandle RESULT;
+    private static final VarHandle STEP;
+    private static final VarHandle WAITERS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            RESULT = lookup.findVarHandle(LazyTry.class, "result", Try.class);
+            STEP = lookup.findVarHandle(LazyTry.class, "step", Supplier.class);
+            WAITERS = lookup.findVarHandle(LazyTry.class, "waiters", Waiter.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused") // accessed through RESULT
+    private Try<T> result;
+
+    @SuppressWarnings("unused") // accessed through STEP
+    private Supplier<Try<T>> step;
+
+    @SuppressWarnings("unused") // accessed through WAITERS
+    private Waiter waiters;
+
+    private volatile Thread owner;
+
+    LazyTry(Supplier<Try<T>> step) {
+        this.step = step;
+    }
+
+    /**
+     * Returns {@code true} if the computation has already run.
+     *
+     * @return true if evaluated
+     */
+    public boolean isEvaluated() {
+        return RESULT.getAcquire(this) != null;
+    }
+
+    /**
+     * Returns the outcome, running the computation first if needed.
+     *
+     * @return the evaluated Try
+     */
+    @SuppressWarnings("unchecked")
+    public Try<T> toTry() {
+        Try<T> current = (Try<T>) RESULT.getAcquire(this);
+        return current != null ? current : evaluate();
+    }
+
+    /**
+     * Returns {@code true} if the computation succeeded, running it first if needed.
+     *
+     * @return true if success
+     */
+    public boolean isSuccess() {
+        return toTry().isSuccess();
+    }
+
+    /**
+     * Returns {@code true} if the computation failed, running it first if needed.
+     *
+     * @return true if failure
+     */
+    public boolean isFailure() {
+        return toTry().isFailure();
+    }
+
+    /**
+     * Returns the value, running the computation first if needed.
+     *
+     * @return the successful value
+     * @throws TryException wrapping the original exception if the computation failed
+     * @see Try#get()
+     */
+    public T get() throws TryException {
+        return toTry().get();
+    }
+
+    /**
+     * Returns the cause of failure, running the computation first if needed.
+     *
+     * @return the exception cause
+     * @see Try#getCause()
+     */
+    public Throwable getCause() {
+        return toTry().getCause();
+    }
+
+    /**
+     * Returns the value or a default if the computation failed, running it first if needed.
+     *
+     * @param other default value
+     * @return the value or default
+     */
+    public T getOrElse(T other) {
+        return toTry().getOrElse(other);
+    }
+
+    /**
+     * Returns the value, running the computation first if needed, or throws the original
+     * exception.
+     *
+     * @return the value
+     * @see Try#getOrElseThrow()
+     */
+    public T getOrElseThrow() {
+        return toTry().getOrElseThrow();
+    }
+
+    /**
+     * Returns a lazy value that transforms this one's value when evaluated.
+     *
+     * @param mapper the function to transform the value
+     * @param <U>    the type of the transformed value
+     * @return a new, unevaluated LazyTry
+     */
+    public <U> LazyTry<U> map(Function<? super T, ? extends U> mapper) {
+        return new LazyTry<>(() -> toTry().map(mapper));
+    }
+
+    /**
+     * Returns a lazy value that flat-maps this one's value when evaluated.
+     *
+     * @param mapper the function to transform the value
+     * @param <U>    the type of the result
+     * @return a new, unevaluated LazyTry
+     */
+    public <U> LazyTry<U> flatMap(Function<? super T, Try<U>> mapper) {
+        return new LazyTry<>(() -> toTry().flatMap(mapper));
+    }
+
+    /**
+     * Returns a lazy value that recovers from this one's failure when evaluated.
+     *
+     * @param recoverFunc the function to provide fallback
+     * @return a new, unevaluated LazyTry
+     */
+    public LazyTry<T> recover(Function<Throwable, ? extends T> recoverFunc) {
+        return new LazyTry<>(() -> toTry().recover(recoverFunc));
+    }
+
+    /**
+     * Returns a lazy value that recovers from this one's failure of a specific exception type
+     * when evaluated.
+     *
+     * @param exClass     the exception type to recover from
+     * @param recoverFunc the function providing fallback
+     * @param <E>         type of exception
+     * @return a new, unevaluated LazyTry
+     */
+    public <E extends Throwable> LazyTry<T> recover(
+            Class<E> exClass, Function<? super E, ? extends T> recoverFunc) {
+        return new LazyTry<>(() -> toTry().recover(exClass, recoverFunc));
+    }
+
+    /**
+     * Claims the computation with a CAS on {@code step}. The winner runs it, publishes the
+     * result with release semantics and wakes up the threads that queued in the meantime.
+     * Losers push themselves onto the waiter stack and park until the result is visible.
+     */
+    @SuppressWarnings("unchecked")
+    private Try<T> evaluate() {
+        Supplier<Try<T>> pending = (Supplier<Try<T>>) STEP.getAcquire(this);
+        if (pending != null && STEP.compareAndSet(this, pending, null)) {
+            owner = Thread.currentThread();
+            Try<T> computed;
+            try {
+                computed = pending.get();
+            } catch (Throwable t) {
+                computed = new Failure<>(t);
+            }
+            RESULT.setRelease(this, computed);
+            owner = null;
+            for (Waiter w = (Waiter) WAITERS.getAndSet(this, null); w != null; w = w.next) {
+                LockSupport.unpark(w.thread);
+            }
+            return computed;
+        }
+        return await();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Try<T> await() {
+        if (owner == Thread.currentThread()) {
+            return new Failure<>(
+                    new IllegalStateException("LazyTry evaluation depends on its own result"));
+        }
+        Waiter self = new Waiter(Thread.currentThread());
+        Waiter head;
+        do {
+            head = (Waiter) WAITERS.getAcquire(this);
+            self.next = head;
+        } while (!WAITERS.compareAndSet(this, head, self));
+        Try<T> current;
+        boolean interrupted = false;
+        while ((current = (Try<T>) RESULT.getAcquire(this)) == null) {
+            LockSupport.park(this);
+            // park returns at once while the interrupt flag is set, so clear it and restore it
+            // once the result is in
+            interrupted |= Thread.interrupted();
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        Object current = RESULT.getAcquire(this);
+        return current == null ? "LazyTry(unevaluated)" : "LazyTry(" + current + ")";
+    }
+
+    private static final class Waiter {
+        final Thread thread;
+        Waiter next;
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link Try} specialized for {@code long} results.
+ * <p>
+ * The value is stored unboxed, so chains of {@code map} calls on numbers do not allocate an
+ * {@code Long} per stage. Use {@link #boxed()} or {@link #mapToObj(LongFunction)} to continue
+ * with a regular {@code Try}.
+ */
+public final class LongTry {
+    private final long value;
+    private final Throwable cause;
+
+    private LongTry(long value, Throwable cause) {
+        this.value = value;
+        this.cause = cause;
+    }
+
+    /**
+     * Wraps a computation that may throw an exception into an {@code LongTry}.
+     *
+     * @param supplier the computation
+     * @return a success with the value or a failure with the exception
+     */
+    public static LongTry ofLong(LongSupplier supplier) {
+        long result;
+        try {
+            result = supplier.getAsLong();
+        } catch (Throwable t) {
+            return new LongTry(0, t);
+        }
+        return new LongTry(result, null);
+    }
+
+    /**
+     * Creates a successful {@code LongTry}.
+     *
+     * @param value the value
+     * @return a success holding {@code value}
+     */
+    public static LongTry success(long value) {
+        return new LongTry(value, null);
+    }
+
+    /**
+     * Creates a failed {@code LongTry}.
+     *
+     * @param cause the cause of the failure
+     * @return a failure holding {@code cause}
+     */
+    public static LongTry failure(Throwable cause) {
+        return new LongTry(0, Objects.requireNonNull(cause, "cause"));
+    }
+
+    /**
+     * Returns {@code true} if this represents a successful computation.
+     *
+     * @return true if success
+     */
+    public boolean isSuccess() {
+        return cause == null;
+    }
+
+    /**
+     * Returns {@code true} if this represents a failed computation.
+     *
+     * @return true if failure
+     */
+    public boolean isFailure() {
+        return cause != null;
+    }
+
+    /**
+     * Returns the value if success, otherwise throws a {@link TryException} wrapping the cause.
+     *
+     * @return the successful value
+     * @throws TryException wrapping the original exception if this is a failure
+     */
+    public long get() throws TryException {
+        if (cause != null) throw TryException.unwrapping(cause);
+        return value;
+    }
+
+    /**
+     * Returns the cause of failure.
+     *
+     * @return the exception cause
+     * @throws IllegalStateException if this is a success
+     */
+    public Throwable getCause() {
+        if (cause == null) throw new IllegalStateException("Success has no cause");
+        return cause;
+    }
+
+    /**
+     * Transforms the successful value.
+     *
+     * @param mapper the function to transform the value
+     * @return a new LongTry with the transformed value or this failure
+     */
+    public LongTry map(LongUnaryOperator mapper) {
+        if (cause != null) return this;
+        long result;
+        try {
+            result = mapper.applyAsLong(value);
+        } catch (Throwable t) {
+            return new LongTry(0, t);
+        }
+        return new LongTry(result, null);
+    }
+
+    /**
+     * Flat-maps the successful value using a function returning an {@code LongTry}.
+     *
+     * @param mapper the function to transform the value
+     * @return the result of {@code mapper} or this failure
+     */
+    public LongTry flatMap(LongFunction<LongTry> mapper) {
+        if (cause != null) return this;
+        try {
+            return mapper.apply(value);
+        } catch (Throwable t) {
+            return new LongTry(0, t);
+        }
+    }
+
+    /**
+     * Transforms the successful value into an object, continuing as a regular {@code Try}.
+     *
+     * @param mapper the function to transform the value
+     * @param <U>    the type of the transformed value
+     * @return a Try with the transformed value or the original failure
+     */
+    public <U> Try<U> mapToObj(LongFunction<? extends U> mapper) {
+        if (cause != null) return new Failure<>(cause);
+        U result;
+        try {
+            result = mapper.apply(value);
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+        return Success.valueOf(result);
+    }
+
+    /**
+     * Converts this into a regular {@code Try}, boxing the value.
+     *
+     * @return a Try holding the boxed value or the original failure
+     */
+    public Try<Long> boxed() {
+        return cause != null ? new Failure<>(cause) : Success.valueOf(value);
+    }
+
+    /**
+     * Returns the successful value or a default if failure.
+     *
+     * @param other default value
+     * @return the value or default
+     */
+    public long getOrElse(long other) {
+        return cause != null ? other : value;
+    }
+
+    /**
+     * Returns the value if success, otherwise throws the original exception.
+     *
+     * @return the value
+     */
+    public long getOrElseThrow() {
+        if (cause != null) Failure.sneakyThrow(cause);
+        return value;
+    }
+
+    /**
+     * Recovers from a failure by providing a fallback value.
+     *
+     * @param recoverFunc the function to provide fallback
+     * @return a new LongTry with fallback or this success
+     */
+    public LongTry recover(ToLongFunction<Throwable> recoverFunc) {
+        if (cause == null) return this;
+        long result;
+        try {
+            result = recoverFunc.applyAsLong(cause);
+        } catch (Throwable t) {
+            return new LongTry(0, t);
+        }
+        return new LongTry(result, null);
+    }
+
+    /**
+     * Recovers from a failure selectively for a specific exception type.
+     *
+     * @param exClass     the exception type to recover from
+     * @param recoverFunc the function providing fallback
+     * @param <E>         type of exception
+     * @return a new LongTry with fallback or this
+     */
+    public <E extends Throwable> LongTry recover(
+            Class<E> exClass, ToLongFunction<? super E> recoverFunc) {
+        if (cause == null || !exClass.isInstance(cause)) return this;
+        long result;
+        try {
+            result = recoverFunc.applyAsLong(exClass.cast(cause));
+        } catch (Throwable t) {
+            return new LongTry(0, t);
+        }
+        return new LongTry(result, null);
+    }
+
+    /**
+     * Performs a side-effect action if this is success.
+     *
+     * @param action the consumer to accept the value
+     * @return this LongTry
+     */
+    public LongTry onSuccess(LongConsumer action) {
+        if (cause == null) action.accept(value);
+        return this;
+    }
+
+    /**
+     * Performs a side-effect action if this is failure.
+     *
+     * @param action the consumer to accept the exception
+     * @return this LongTry
+     */
+    public LongTry onFailure(Consumer<? super Throwable> action) {
+        if (cause != null) action.accept(cause);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return cause != null ? "Failure(" + cause + ")" : "Success(" + value + ")";
+    }
+}
@@ -0,0 +1,132 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records durations from any number of threads into {@link QuantileSketch}es.
+ * <p>
+ * Each thread records into one of a small set of stripes chosen by its thread id, so threads
+ * rarely share a counter, and a record is a logarithm and one uncontended atomic increment.
+ * Every stripe covers all buckets of the sketch, about 17 KB at 1% accuracy, and is allocated
+ * on first use; there are at most as many stripes as processors, and never more than 16.
+ * Per-thread state would grow with the number of threads, which with virtual threads is
+ * unbounded.
+ * <p>
+ * {@link #snapshot()} merges the stripes into a new sketch without stopping writers; values
+ * recorded while it runs may or may not be included. The result can be serialized with
+ * {@link QuantileSketch#toBytes()} and merged with sketches from other processes:
+ * <pre>{@code
+ * static final QuantileRecorder INVENTORY = QuantileRecorder.create(0.01);
+ *
+ * Try<Stock> stock = INVENTORY.time(() -> inventory.lookup(sku));
+ * byte[] report = INVENTORY.snapshotAndReset().toBytes();
+ * }</pre>
+ */
+public final class QuantileRecorder {
+    private static final int MAX_STRIPES = 16;
+
+    private final QuantileSketch mapping;
+    private final int slots;
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+    private final int mask;
+
+    private QuantileRecorder(QuantileSketch mapping) {
+        this.mapping = mapping;
+        this.slots = mapping.maxBins() + 1;
+        int count =
+                Math.min(
+                        MAX_STRIPES,
+                        Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+        this.stripes = new AtomicReferenceArray<>(count);
+        this.mask = count - 1;
+    }
+
+    /**
+     * Creates a recorder whose snapshots have the given accuracy.
+     *
+     * @param relativeAccuracy the relative error of quantiles, as for
+     *                         {@link QuantileSketch#create(double)}
+     * @return a new QuantileRecorder
+     * @throws IllegalArgumentException if {@code relativeAccuracy} is out of range
+     */
+    public static QuantileRecorder create(double relativeAccuracy) {
+        return new QuantileRecorder(QuantileSketch.create(relativeAccuracy));
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        stripe().getAndIncrement(nanos <= 0 ? 0 : mapping.indexOf(nanos) + 1);
+    }
+
+    /**
+     * Runs a computation like {@link Try#ofChecked(ThrowingSupplier)} and records how long it
+     * took, whatever its outcome.
+     *
+     * @param supplier the computation
+     * @param <T>      the type of the result
+     * @return a Success with the value or Failure with the exception
+     */
+    public <T> Try<T> time(ThrowingSupplier<T> supplier) {
+        long start = System.nanoTime();
+        Try<T> result = Try.ofChecked(supplier);
+        record(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Merges the values recorded so far into a new sketch.
+     *
+     * @return a new QuantileSketch
+     */
+    public QuantileSketch snapshot() {
+        return drain(false);
+    }
+
+    /**
+     * Merges the values recorded so far into a new sketch and removes them from this recorder,
+     * without losing concurrent records: each one ends up either in the returned sketch or in
+     * the recorder.
+     *
+     * @return a new QuantileSketch
+     */
+    public QuantileSketch snapshotAndReset() {
+        return drain(true);
+    }
+
+    private QuantileSketch drain(boolean reset) {
+        QuantileSketch sketch = QuantileSketch.create(mapping.relativeAccuracy());
+        for (int s = 0; s < stripes.length(); s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            if (stripe == null) continue;
+            for (int i = 0; i < slots; i++) {
+                long count = reset ? stripe.getAndSet(i, 0) : stripe.get(i);
+                if (count == 0) continue;
+                if (i == 0) {
+                    sketch.addZero(count);
+                } else {
+                    sketch.add(i - 1, count);
+                }
+            }
+        }
+        return sketch;
+    }
+
+    private AtomicLongArray stripe() {
+        int s = (int) Thread.currentThread().threadId() & mask;
+        AtomicLongArray stripe = stripes.get(s);
+        if (stripe != null) return stripe;
+        stripes.compareAndSet(s, null, new AtomicLongArray(slots));
+        return stripes.get(s);
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileRecorder(" + snapshot() + ")";
+    }
+}
@@ -0,0 +1,338 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ * A mergeable sketch of durations that answers quantile queries within a fixed relative
+ * error, in the manner of DDSketch.
+ * <p>
+ * A duration {@code v} in nanoseconds is counted in bucket {@code ceil(log(v) / log(gamma))},
+ * where {@code gamma = (1 + a) / (1 - a)} for relative accuracy {@code a}; durations of zero
+ * or less have a bucket of their own. Every quantile is then known to within {@code a} of the
+ * true value, whatever the distribution. Since buckets grow geometrically, all of
+ * {@code long} fits in a bounded number of them, about 2200 at 1% accuracy, so a sketch never
+ * exceeds that many counters however many values it holds; it only keeps the range of buckets
+ * actually used.
+ * <p>
+ * Unlike percentiles, sketches can be combined: {@link #merge(QuantileSketch)} adds the counts
+ * of another sketch with the same accuracy, and the result is exactly the sketch of all values
+ * recorded by both. {@link #toBytes()} writes a compact form that {@link #fromBytes(byte[])}
+ * reads back, so sketches from many processes can be merged offline:
+ * <pre>{@code
+ * QuantileSketch fleet = QuantileSketch.create(0.01);
+ * for (byte[] bytes : collected) {
+ *     fleet.merge(QuantileSketch.fromBytes(bytes));
+ * }
+ * Duration p99 = fleet.p99();
+ * }</pre>
+ * A sketch is not thread-safe; record from many threads with a {@link QuantileRecorder}.
+ */
+public final class QuantileSketch {
+    private static final byte FORMAT_VERSION = 1;
+    private static final long[] EMPTY = new long[0];
+    private static final int INITIAL_BINS = 32;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double multiplier;
+    private final int maxBins;
+
+    private long zeroCount;
+    private long total;
+    private long[] bins = EMPTY;
+    private int offset;
+
+    private QuantileSketch(double relativeAccuracy) {
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.multiplier = 1 / Math.log(gamma);
+        this.maxBins = indexOf(Long.MAX_VALUE) + 1;
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param relativeAccuracy the relative error of quantiles, between 0.001 and 0.5, e.g.
+     *                         {@code 0.01} for 1%
+     * @return a new QuantileSketch
+     * @throws IllegalArgumentException if {@code relativeAccuracy} is out of range
+     */
+    public static QuantileSketch create(double relativeAccuracy) {
+        if (!(relativeAccuracy >= 0.001 && relativeAccuracy <= 0.5)) {
+            throw new IllegalArgumentException(
+                    "relativeAccuracy must be in [0.001, 0.5]: " + relativeAccuracy);
+        }
+        return new QuantileSketch(relativeAccuracy);
+    }
+
+    /**
+     * Returns the relative error of the quantiles of this sketch.
+     *
+     * @return the relative accuracy
+     */
+    public double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos <= 0) {
+            addZero(1);
+        } else {
+            add(indexOf(nanos), 1);
+        }
+    }
+
+    /**
+     * Adds the counts of {@code other} to this sketch.
+     *
+     * @param other a sketch with the same relative accuracy
+     * @return this sketch
+     * @throws IllegalArgumentException if the relative accuracies differ
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException(
+                    "cannot merge sketches of relative accuracy "
+                            + other.relativeAccuracy
+                            + " into "
+                            + relativeAccuracy);
+        }
+        addZero(other.zeroCount);
+        for (int i = 0; i < other.bins.length; i++) {
+            if (other.bins[i] != 0) add(other.offset + i, other.bins[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the count
+     */
+    public long count() {
+        return total;
+    }
+
+    /**
+     * Returns the value below which the given share of recorded values fall.
+     *
+     * @param quantile the share, between 0 and 1, e.g. {@code 0.99}
+     * @return the value in nanoseconds, within the relative accuracy, or 0 if nothing was
+     *     recorded
+     * @throws IllegalArgumentException if {@code quantile} is outside [0, 1]
+     */
+    public long valueAtQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("quantile must be in [0, 1]: " + quantile);
+        }
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = zeroCount;
+        if (seen >= rank) return 0;
+        for (int i = 0; i < bins.length; i++) {
+            seen += bins[i];
+            if (seen >= rank) return valueOf(offset + i);
+        }
+        return valueOf(offset + bins.length - 1);
+    }
+
+    /**
+     * Returns the median.
+     *
+     * @return the 50th percentile
+     */
+    public Duration p50() {
+        return Duration.ofNanos(valueAtQuantile(0.5));
+    }
+
+    /**
+     * Returns the 99th percentile.
+     *
+     * @return the 99th percentile
+     */
+    public Duration p99() {
+        return Duration.ofNanos(valueAtQuantile(0.99));
+    }
+
+    /**
+     * Returns the 99.9th percentile.
+     *
+     * @return the 99.9th percentile
+     */
+    public Duration p999() {
+        return Duration.ofNanos(valueAtQuantile(0.999));
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the maximum, within the relative accuracy, or zero if nothing was recorded
+     */
+    public Duration max() {
+        return Duration.ofNanos(valueAtQuantile(1));
+    }
+
+    /**
+     * Writes this sketch in a compact binary form: the accuracy, then the index and count of
+     * each non-empty bucket as variable-length integers, the index as the gap from the
+     * previous one. Buckets of typical latencies are adjacent, so most take two or three
+     * bytes.
+     *
+     * @return the serialized sketch
+     */
+    public byte[] toBytes() {
+        int used = 0;
+        for (long count : bins) {
+            if (count != 0) used++;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + 4 * used);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, Double.doubleToLongBits(relativeAccuracy));
+        writeVarLong(out, zeroCount);
+        writeVarLong(out, used);
+        int previous = -1;
+        for (int i = 0; i < bins.length; i++) {
+            if (bins[i] == 0) continue;
+            writeVarLong(out, offset + i - previous);
+            writeVarLong(out, bins[i]);
+            previous = offset + i;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads a sketch written by {@link #toBytes()}.
+     *
+     * @param bytes the serialized sketch
+     * @return a new QuantileSketch
+     * @throws IllegalArgumentException if {@code bytes} is not a valid sketch
+     */
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        try {
+            byte version = in.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("unknown sketch format: " + version);
+            }
+            QuantileSketch sketch = create(Double.longBitsToDouble(readVarLong(in)));
+            sketch.addZero(readCount(in));
+            long used = readVarLong(in);
+            long index = -1;
+            for (long i = 0; i < used; i++) {
+                long gap = readVarLong(in);
+                if (gap < 1 || gap > sketch.maxBins - 1 - index) {
+                    throw new IllegalArgumentException("bucket index out of bounds");
+                }
+                index += gap;
+                long count = readCount(in);
+                if (count == 0) throw new IllegalArgumentException("empty bucket");
+                sketch.add((int) index, count);
+            }
+            if (in.hasRemaining()) {
+                throw new IllegalArgumentException("trailing bytes after sketch");
+            }
+            return sketch;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("truncated sketch", e);
+        }
+    }
+
+    /** Returns the bucket of a positive duration. */
+    int indexOf(long nanos) {
+        return (int) Math.ceil(Math.log(nanos) * multiplier);
+    }
+
+    /** Returns the number of buckets needed to cover every positive {@code long}. */
+    int maxBins() {
+        return maxBins;
+    }
+
+    /** Returns the value in bucket {@code index} with the least relative error to all others. */
+    private long valueOf(int index) {
+        return Math.round(2 * Math.exp(index / multiplier) / (gamma + 1));
+    }
+
+    void addZero(long count) {
+        zeroCount += count;
+        total += count;
+    }
+
+    void add(int index, long count) {
+        if (index < offset || index >= offset + bins.length) grow(index);
+        bins[index - offset] += count;
+        total += count;
+    }
+
+    /**
+     * Widens the bucket array to include {@code index}, at least doubling it so that growing
+     * one bucket at a time stays linear, but never past {@link #maxBins}.
+     */
+    private void grow(int index) {
+        if (bins.length == 0) {
+            bins = new long[Math.min(INITIAL_BINS, maxBins)];
+            offset = Math.min(index, maxBins - bins.length);
+            return;
+        }
+        int high = offset + bins.length - 1;
+        int needed = Math.max(high, index) - Math.min(offset, index) + 1;
+        int length = Math.min(Math.max(needed, bins.length * 2), maxBins);
+        int low =
+                index < offset
+                        ? Math.max(0, high - length + 1)
+                        : Math.min(offset, maxBins - length);
+        long[] widened = new long[length];
+        System.arraycopy(bins, 0, widened, offset - low, bins.length);
+        bins = widened;
+        offset = low;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("malformed variable-length integer");
+    }
+
+    private static long readCount(ByteBuffer in) {
+        long count = readVarLong(in);
+        if (count < 0) throw new IllegalArgumentException("negative count: " + count);
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch(count="
+                + total
+                + ", p50="
+                + p50()
+                + ", p99="
+                + p99()
+                + ", p999="
+                + p999()
+                + ", max="
+                + max()
+                + ", accuracy="
+                + relativeAccuracy
+                + ")";
+    }
+}
@@ -0,0 +1,43 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.concurrent.TimeUnit;
+
+/** Implementation of {@link Try#retry(ThrowingSupplier, RetryPolicy)}. */
+final class Retries {
+
+    private Retries() {}
+
+    /**
+     * Runs {@code supplier} until it succeeds or {@code policy} gives up, sleeping between
+     * attempts. On a virtual thread the sleep unmounts the thread instead of blocking a carrier.
+     * If the sleep is interrupted, the result is a Failure holding the
+     * {@link InterruptedException}, with the last failure attached as suppressed, and the
+     * interrupt status is restored. If the policy's {@code retryIf} condition throws, that
+     * exception is the result.
+     */
+    static <T> Try<T> retry(ThrowingSupplier<T> supplier, RetryPolicy policy) {
+        long start = System.nanoTime();
+        long delay = 0;
+        for (int attempt = 1; ; attempt++) {
+            Try<T> result = Try.ofChecked(supplier);
+            if (!(result instanceof Failure<T>(var cause))) {
+                policy.recordSuccess();
+                return result;
+            }
+            try {
+                delay = policy.nextDelayNanos(attempt, delay, start, cause);
+            } catch (Throwable t) {
+                return new Failure<>(t);
+            }
+            if (delay < 0) return result;
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                e.addSuppressed(cause);
+                return new Failure<>(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A limit on retries shared by many call sites, so that retries cannot multiply the load on a
+ * dependency that is already failing.
+ * <p>
+ * The budget is a token bucket. Every successful call deposits {@code retryRatio} tokens and
+ * every retry withdraws one; a retry is only allowed while at least one token is available.
+ * With a ratio of {@code 0.1}, retries are held to about 10% of successful calls, plus the
+ * initial {@code maxRetries} tokens the bucket starts with. When a dependency fails outright,
+ * no deposits are made, the bucket drains, and further failures are returned immediately.
+ * <p>
+ * Attach a budget to a policy with {@link RetryPolicy#withBudget(RetryBudget)}; the same
+ * instance can be shared by any number of policies and threads. The bucket is updated with
+ * compare-and-set only, and the allowed and denied retries are counted with
+ * {@link LongAdder}s.
+ */
+public final class RetryBudget {
+    /** Tokens are kept in thousandths so that fractional deposits add up exactly. */
+    private static final long SCALE = 1000;
+
+    private final long depositPerSuccess;
+    private final long capacity;
+    private final AtomicLong balance;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    private RetryBudget(long depositPerSuccess, long capacity) {
+        this.depositPerSuccess = depositPerSuccess;
+        this.capacity = capacity;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Creates a full budget.
+     *
+     * @param retryRatio the number of retries each successful call pays for, e.g. {@code 0.1}
+     * @param maxRetries the most retries that can be saved up, and the initial balance
+     * @return a new RetryBudget
+     * @throws IllegalArgumentException if {@code retryRatio} is negative or not finite, or
+     *                                  {@code maxRetries} is not positive
+     */
+    public static RetryBudget of(double retryRatio, int maxRetries) {
+        if (!(retryRatio >= 0) || Double.isInfinite(retryRatio)) {
+            throw new IllegalArgumentException(
+                    "retryRatio must be a non-negative number: " + retryRatio);
+        }
+        if (maxRetries < 1) {
+            throw new IllegalArgumentException("maxRetries must be positive: " + maxRetries);
+        }
+        long capacity = maxRetries * SCALE;
+        // a deposit above the capacity fills the bucket anyway; capping it keeps
+        // current + deposit from overflowing for huge ratios
+        return new RetryBudget(Math.min(capacity, Math.round(retryRatio * SCALE)), capacity);
+    }
+
+    /**
+     * Withdraws one retry from the budget if available.
+     *
+     * @return true if the retry may go ahead
+     */
+    public boolean tryAcquireRetry() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                denied.increment();
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        allowed.increment();
+        return true;
+    }
+
+    /**
+     * Deposits the share of a successful call. Retry policies with this budget call it on
+     * every success; other call sites sharing the dependency may call it too.
+     */
+    public void recordSuccess() {
+        long current;
+        long next;
+        do {
+            current = balance.get();
+            if (current >= capacity) return;
+            next = Math.min(capacity, current + depositPerSuccess);
+        } while (!balance.compareAndSet(current, next));
+    }
+
+    /**
+     * Returns the number of retries currently available.
+     *
+     * @return the available retries, possibly fractional
+     */
+    public double available() {
+        return (double) balance.get() / SCALE;
+    }
+
+    /**
+     * Returns the number of retries allowed so far.
+     *
+     * @return the allowed retries
+     */
+    public long retriesAllowed() {
+        return allowed.sum();
+    }
+
+    /**
+     * Returns the number of retries denied so far because the budget was exhausted.
+     *
+     * @return the denied retries
+     */
+    public long retriesDenied() {
+        return denied.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget(available="
+                + available()
+                + ", allowed="
+                + retriesAllowed()
+                + ", denied="
+                + retriesDenied()
+                + ")";
+    }
+}
@@ -0,0 +1,360 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Describes how {@link Try#retry(ThrowingSupplier, RetryPolicy)} and
+ * {@link TryFuture#retry(ThrowingSupplier, RetryPolicy)} repeat a failed computation: how many
+ * attempts are made, how long to wait between them, the overall deadline, and which failures
+ * are worth retrying.
+ * <p>
+ * Policies are immutable; the {@code with...}, {@code retryOn} and {@code abortOn} methods
+ * return modified copies, so a policy can be kept in a constant and shared:
+ * <pre>{@code
+ * static final RetryPolicy BACKEND =
+ *         RetryPolicy.decorrelatedJitter(5, Duration.ofMillis(50), Duration.ofSeconds(2))
+ *                 .withDeadline(Duration.ofSeconds(5))
+ *                 .retryOn(IOException.class)
+ *                 .abortOn(FileNotFoundException.class);
+ * }</pre>
+ * Exception types are matched like {@link Try#recover(Class, java.util.function.Function)},
+ * with {@link Class#isInstance(Object)}. A failure is retried unless it matches an
+ * {@code abortOn} type, and, if any {@code retryOn} types are given, only if it matches one of
+ * them; {@link #retryIf(Predicate)} adds a condition on the cause itself. An
+ * {@link InterruptedException} is never retried.
+ * <p>
+ * A {@link RetryBudget} caps retries across all call sites that share it, see
+ * {@link #withBudget(RetryBudget)}.
+ */
+public final class RetryPolicy {
+    private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+    private enum Backoff {
+        FIXED,
+        EXPONENTIAL,
+        DECORRELATED_JITTER
+    }
+
+    private final int maxAttempts;
+    private final Backoff backoff;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final long deadlineNanos;
+    private final Class<?>[] retryOn;
+    private final Class<?>[] abortOn;
+    private final Predicate<? super Throwable> condition;
+    private final RetryBudget budget;
+
+    private RetryPolicy(
+            int maxAttempts,
+            Backoff backoff,
+            long baseDelayNanos,
+            long maxDelayNanos,
+            long deadlineNanos,
+            Class<?>[] retryOn,
+            Class<?>[] abortOn,
+            Predicate<? super Throwable> condition,
+            RetryBudget budget) {
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.baseDelayNanos = baseDelayNanos;
+        this.maxDelayNanos = maxDelayNanos;
+        this.deadlineNanos = deadlineNanos;
+        this.retryOn = retryOn;
+        this.abortOn = abortOn;
+        this.condition = condition;
+        this.budget = budget;
+    }
+
+    /**
+     * Waits the same time before every retry.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @param delay       the time to wait before each retry
+     * @return a policy with fixed backoff
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive or {@code delay}
+     *                                  is negative
+     */
+    public static RetryPolicy fixed(int maxAttempts, Duration delay) {
+        long nanos = nonNegative(delay, "delay");
+        return create(maxAttempts, Backoff.FIXED, nanos, nanos);
+    }
+
+    /**
+     * Doubles the wait before every retry, starting at {@code initialDelay} and capped at
+     * {@code maxDelay}.
+     *
+     * @param maxAttempts  the maximum number of attempts, including the first one
+     * @param initialDelay the time to wait before the first retry
+     * @param maxDelay     the longest time to wait before a retry
+     * @return a policy with exponential backoff
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive, a delay is
+     *                                  negative or {@code maxDelay} is below {@code initialDelay}
+     */
+    public static RetryPolicy exponential(
+            int maxAttempts, Duration initialDelay, Duration maxDelay) {
+        return create(
+                maxAttempts,
+                Backoff.EXPONENTIAL,
+                nonNegative(initialDelay, "initialDelay"),
+                nonNegative(maxDelay, "maxDelay"));
+    }
+
+    /**
+     * Waits a random time before every retry, drawn between {@code baseDelay} and three times
+     * the previous wait and capped at {@code maxDelay} ("decorrelated jitter"). Callers that
+     * fail together spread their retries out instead of retrying in lockstep.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @param baseDelay   the shortest time to wait before a retry
+     * @param maxDelay    the longest time to wait before a retry
+     * @return a policy with decorrelated jitter backoff
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive, a delay is
+     *                                  negative or {@code maxDelay} is below {@code baseDelay}
+     */
+    public static RetryPolicy decorrelatedJitter(
+            int maxAttempts, Duration baseDelay, Duration maxDelay) {
+        return create(
+                maxAttempts,
+                Backoff.DECORRELATED_JITTER,
+                nonNegative(baseDelay, "baseDelay"),
+                nonNegative(maxDelay, "maxDelay"));
+    }
+
+    /**
+     * Returns a copy that stops retrying once {@code deadline} has passed since the first
+     * attempt started. A retry is not attempted if waiting for it would exceed the deadline.
+     *
+     * @param deadline the overall time budget
+     * @return a new policy with the deadline
+     * @throws IllegalArgumentException if {@code deadline} is not positive
+     */
+    public RetryPolicy withDeadline(Duration deadline) {
+        long nanos = nonNegative(deadline, "deadline");
+        if (nanos == 0) throw new IllegalArgumentException("deadline must be positive");
+        return new RetryPolicy(
+                maxAttempts,
+                backoff,
+                baseDelayNanos,
+                maxDelayNanos,
+                nanos,
+                retryOn,
+                abortOn,
+                condition,
+                budget);
+    }
+
+    /**
+     * Returns a copy that also retries failures of type {@code exClass}. Once any type is
+     * given, failures matching none of them are not retried.
+     *
+     * @param exClass the exception type to retry
+     * @return a new policy retrying {@code exClass}
+     */
+    public RetryPolicy retryOn(Class<? extends Throwable> exClass) {
+        return new RetryPolicy(
+                maxAttempts,
+                backoff,
+                baseDelayNanos,
+                maxDelayNanos,
+                deadlineNanos,
+                append(retryOn, exClass),
+                abortOn,
+                condition,
+                budget);
+    }
+
+    /**
+     * Returns a copy that never retries failures of type {@code exClass}, even if they match a
+     * {@link #retryOn(Class)} type.
+     *
+     * @param exClass the exception type to give up on
+     * @return a new policy aborting on {@code exClass}
+     */
+    public RetryPolicy abortOn(Class<? extends Throwable> exClass) {
+        return new RetryPolicy(
+                maxAttempts,
+                backoff,
+                baseDelayNanos,
+                maxDelayNanos,
+                deadlineNanos,
+                retryOn,
+                append(abortOn, exClass),
+                condition,
+                budget);
+    }
+
+    /**
+     * Returns a copy that retries a failure only if {@code condition} also accepts its cause,
+     * for decisions the exception type alone cannot make. A client that reports every HTTP
+     * error status with one exception type, for example, can retry 429 and 5xx responses but
+     * give up on other 4xx ones. Conditions added by repeated calls must all accept the cause.
+     * If a condition throws, retrying stops and its exception becomes the result.
+     *
+     * @param condition the test a cause must pass to be retried
+     * @return a new policy retrying only causes accepted by {@code condition}
+     */
+    public RetryPolicy retryIf(Predicate<? super Throwable> condition) {
+        Objects.requireNonNull(condition, "condition");
+        Predicate<? super Throwable> combined =
+                this.condition == null
+                        ? condition
+                        : cause -> this.condition.test(cause) && condition.test(cause);
+        return new RetryPolicy(
+                maxAttempts,
+                backoff,
+                baseDelayNanos,
+                maxDelayNanos,
+                deadlineNanos,
+                retryOn,
+                abortOn,
+                combined,
+                budget);
+    }
+
+    /**
+     * Returns a copy that draws every retry from {@code budget} and pays into it on every
+     * success. Once the budget is exhausted, failures are returned without retrying.
+     *
+     * @param budget the budget shared with other call sites
+     * @return a new policy limited by {@code budget}
+     */
+    public RetryPolicy withBudget(RetryBudget budget) {
+        return new RetryPolicy(
+                maxAttempts,
+                backoff,
+                baseDelayNanos,
+                maxDelayNanos,
+                deadlineNanos,
+                retryOn,
+                abortOn,
+                condition,
+                Objects.requireNonNull(budget, "budget"));
+    }
+
+    /**
+     * Returns the maximum number of attempts, including the first one.
+     *
+     * @return the maximum number of attempts
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns {@code true} if a failure with this cause is worth retrying.
+     *
+     * @param cause the cause of the failed attempt
+     * @return true if the failure matches the retry filters
+     */
+    public boolean isRetryable(Throwable cause) {
+        if (cause instanceof InterruptedException) return false;
+        for (Class<?> type : abortOn) {
+            if (type.isInstance(cause)) return false;
+        }
+        if (condition != null && !condition.test(cause)) return false;
+        if (retryOn.length == 0) return true;
+        for (Class<?> type : retryOn) {
+            if (type.isInstance(cause)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Decides whether to retry after a failed attempt and how long to wait first. The budget,
+     * if any, is consulted last, so a retry is only withdrawn when it will actually happen.
+     *
+     * @param attempt       the number of attempts made so far
+     * @param previousDelay the wait before the failed attempt in nanoseconds, 0 for the first
+     * @param startNanos    the {@link System#nanoTime()} at which the first attempt started
+     * @param cause         the cause of the failed attempt
+     * @return the wait in nanoseconds before the next attempt, or -1 to give up
+     */
+    long nextDelayNanos(int attempt, long previousDelay, long startNanos, Throwable cause) {
+        if (attempt >= maxAttempts || !isRetryable(cause)) return -1;
+        long delay =
+                switch (backoff) {
+                    case FIXED -> baseDelayNanos;
+                    case EXPONENTIAL ->
+                            previousDelay == 0
+                                    ? baseDelayNanos
+                                    : previousDelay > maxDelayNanos / 2
+                                            ? maxDelayNanos
+                                            : previousDelay * 2;
+                    case DECORRELATED_JITTER -> {
+                        long previous = Math.max(previousDelay, baseDelayNanos);
+                        long upper = previous > maxDelayNanos / 3 ? maxDelayNanos : previous * 3;
+                        yield upper > baseDelayNanos
+                                ? ThreadLocalRandom.current().nextLong(baseDelayNanos, upper + 1)
+                                : baseDelayNanos;
+                    }
+                };
+        if (deadlineNanos > 0 && System.nanoTime() - startNanos + delay > deadlineNanos) {
+            return -1;
+        }
+        if (budget != null && !budget.tryAcquireRetry()) return -1;
+        return delay;
+    }
+
+    /** Pays a successful attempt into the budget, if any. */
+    void recordSuccess() {
+        if (budget != null) budget.recordSuccess();
+    }
+
+    private static RetryPolicy create(
+            int maxAttempts, Backoff backoff, long baseDelayNanos, long maxDelayNanos) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        if (maxDelayNanos < baseDelayNanos) {
+            throw new IllegalArgumentException("maxDelay must not be below the initial delay");
+        }
+        return new RetryPolicy(
+                maxAttempts,
+                backoff,
+                baseDelayNanos,
+                maxDelayNanos,
+                0,
+                NO_TYPES,
+                NO_TYPES,
+                null,
+                null);
+    }
+
+    private static long nonNegative(Duration duration, String name) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException(name + " must not be negative: " + duration);
+        }
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static Class<?>[] append(Class<?>[] types, Class<? extends Throwable> exClass) {
+        Class<?>[] extended = Arrays.copyOf(types, types.length + 1);
+        extended[types.length] = Objects.requireNonNull(exClass, "exClass");
+        return extended;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy("
+                + backoff
+                + ", maxAttempts="
+                + maxAttempts
+                + ", delay="
+                + Duration.ofNanos(baseDelayNanos)
+                + ".."
+                + Duration.ofNanos(maxDelayNanos)
+                + (deadlineNanos > 0 ? ", deadline=" + Duration.ofNanos(deadlineNanos) : "")
+                + (budget != null ? ", " + budget : "")
+                + ")";
+    }
+}
@@ -1,14 +1,61 @@
 /* (C)2025 */
 package io.github.abhipdgupta.tryutil;
 
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
-final class Success<T> extends Try<T> {
-    private final T value;
+/**
+ * A successful {@link Try} holding the result of the computation.
+ *
+ * @param value the result, may be {@code null}
+ * @param <T>   the type of the result
+ */
+public record Success<T>(T value) implements Try<T> {
+    private static final Success<?> NULL = new Success<>(null);
+    private static final Success<Boolean> TRUE = new Success<>(Boolean.TRUE);
+    private static final Success<Boolean> FALSE = new Success<>(Boolean.FALSE);
+    private static final Success<String> EMPTY_STRING = new Success<>("");
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 127;
+    private static final Success<?>[] INTEGERS = new Success<?>[CACHE_HIGH - CACHE_LOW + 1];
+    private static final Success<?>[] LONGS = new Success<?>[CACHE_HIGH - CACHE_LOW + 1];
 
-    Success(T value) {
-        this.value = value;
+    static {
+        for (int i = CACHE_LOW; i <= CACHE_HIGH; i++) {
+            INTEGERS[i - CACHE_LOW] = new Success<>(Integer.valueOf(i));
+            LONGS[i - CACHE_LOW] = new Success<>(Long.valueOf(i));
+        }
+    }
+
+    /**
+     * Returns a {@code Success} holding {@code value}, reusing a shared instance for
+     * {@code null}, the boolean constants, the empty string and the boxed {@code Integer} and
+     * {@code Long} values the JDK caches.
+     * <p>
+     * A shared instance is only returned when it holds the very same object, so identity of
+     * the value is preserved.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Success<T> valueOf(T value) {
+        if (value == null) return (Success<T>) NULL;
+        if (value instanceof Integer i) {
+            int v = i;
+            if (v >= CACHE_LOW && v <= CACHE_HIGH && i == Integer.valueOf(v)) {
+                return (Success<T>) INTEGERS[v - CACHE_LOW];
+            }
+        } else if (value instanceof Boolean) {
+            if (value == Boolean.TRUE) return (Success<T>) TRUE;
+            if (value == Boolean.FALSE) return (Success<T>) FALSE;
+        } else if (value instanceof Long l) {
+            long v = l;
+            if (v >= CACHE_LOW && v <= CACHE_HIGH && l == Long.valueOf(v)) {
+                return (Success<T>) LONGS[(int) v - CACHE_LOW];
+            }
+        } else if (value == EMPTY_STRING.value) {
+            return (Success<T>) EMPTY_STRING;
+        }
+        return new Success<>(value);
     }
 
     @Override
@@ -34,7 +81,7 @@ final class Success<T> extends Try<T> {
     @Override
     public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
         try {
-            return new Success<>(mapper.apply(value));
+            return Success.valueOf(mapper.apply(value));
         } catch (Exception t) {
             return new Failure<>(t);
         }
@@ -49,16 +96,93 @@ final class Success<T> extends Try<T> {
         }
     }
 
+    @Override
+    public <C, U> Try<U> map(C ctx, BiFunction<? super C, ? super T, ? extends U> mapper) {
+        try {
+            return Success.valueOf(mapper.apply(ctx, value));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public <C, U> Try<U> flatMap(C ctx, BiFunction<? super C, ? super T, Try<U>> mapper) {
+        try {
+            return mapper.apply(ctx, value);
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public <U> Try<U> mapChecked(ThrowingFunction<? super T, ? extends U> mapper) {
+        try {
+            return Success.valueOf(mapper.apply(value));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public <U> Try<U> flatMapChecked(ThrowingFunction<? super T, Try<U>> mapper) {
+        try {
+            return mapper.apply(value);
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public <C, U> Try<U> mapChecked(
+            C ctx, ThrowingBiFunction<? super C, ? super T, ? extends U> mapper) {
+        try {
+            return Success.valueOf(mapper.apply(ctx, value));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public <C, U> Try<U> flatMapChecked(
+            C ctx, ThrowingBiFunction<? super C, ? super T, Try<U>> mapper) {
+        try {
+            return mapper.apply(ctx, value);
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
     @Override
     public T getOrElse(T other) {
         return value;
     }
 
+    @Override
+    public T getOrElseGet(Function<? super Throwable, ? extends T> other) {
+        return value;
+    }
+
     @Override
     public Try<T> recover(Function<Throwable, ? extends T> recoverFunc) {
         return this;
     }
 
+    @Override
+    public <C> Try<T> recover(C ctx, BiFunction<? super C, Throwable, ? extends T> recoverFunc) {
+        return this;
+    }
+
+    @Override
+    public Try<T> recoverChecked(ThrowingFunction<? super Throwable, ? extends T> recoverFunc) {
+        return this;
+    }
+
+    @Override
+    public <C> Try<T> recoverChecked(
+            C ctx, ThrowingBiFunction<? super C, Throwable, ? extends T> recoverFunc) {
+        return this;
+    }
+
     @Override
     public <E extends Throwable> Try<T> recover(
             Class<E> exClass, Function<? super E, ? extends T> recoverFunc) {
@@ -71,6 +195,16 @@ final class Success<T> extends Try<T> {
         return this;
     }
 
+    @Override
+    public Try<T> onSuccessChecked(ThrowingConsumer<? super T> action) {
+        try {
+            action.accept(value);
+            return this;
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
     @Override
     public Try<T> onFailure(Consumer<? super Throwable> action) {
         return this;
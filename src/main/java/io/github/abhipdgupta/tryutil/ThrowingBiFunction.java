@@ -0,0 +1,7 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+@FunctionalInterface
+public interface ThrowingBiFunction<T, U, R> {
+    R apply(T t, U u) throws Throwable;
+}
@@ -0,0 +1,7 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+@FunctionalInterface
+public interface ThrowingFunction<T, R> {
+    R apply(T t) throws Throwable;
+}
@@ -0,0 +1,7 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+@FunctionalInterface
+public interface ThrowingRunnable {
+    void run() throws Throwable;
+}
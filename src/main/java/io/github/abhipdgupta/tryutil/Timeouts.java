@@ -0,0 +1,49 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/** Implementation of {@link Try#ofTimed(ThrowingSupplier, Duration)}. */
+final class Timeouts {
+    private Timeouts() {}
+
+    /**
+     * Runs {@code supplier} on a new virtual thread and waits for it with
+     * {@link Thread#join(Duration)}. The result is handed over through an array slot; the join
+     * makes the write visible. If the timeout expires, the worker is interrupted and a Failure
+     * holding a new stackless {@link TimeoutException} is returned; callers may add suppressed
+     * exceptions or a cause to it, so it is not shared.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Try<T> ofTimed(ThrowingSupplier<T> supplier, Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout");
+        Object[] result = new Object[1];
+        Thread worker =
+                Thread.ofVirtual()
+                        .name("try-timed")
+                        .start(() -> result[0] = Try.ofChecked(supplier));
+        try {
+            if (worker.join(timeout)) return (Try<T>) result[0];
+        } catch (InterruptedException e) {
+            worker.interrupt();
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        }
+        worker.interrupt();
+        return new Failure<>(new TimedOut());
+    }
+
+    /** A {@link TimeoutException} without stack trace. */
+    private static final class TimedOut extends TimeoutException {
+        TimedOut() {
+            super("computation timed out");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
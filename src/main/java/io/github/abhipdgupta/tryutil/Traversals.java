@@ -0,0 +1,162 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/** Implementation of the collection combinators exposed on {@link Try}. */
+final class Traversals {
+
+    private Traversals() {}
+
+    /**
+     * Collects the values of {@code results} into an array sized up front and returns it as a
+     * fixed-size list, or the first failure as is.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Try<List<T>> sequence(List<Try<T>> results) {
+        Object[] values = new Object[results.size()];
+        int i = 0;
+        for (Try<T> result : results) {
+            if (result instanceof Success<T>(var value)) {
+                values[i++] = value;
+            } else {
+                return ((Failure<T>) result).retype();
+            }
+        }
+        return new Success<>(Arrays.asList((T[]) values));
+    }
+
+    /**
+     * Applies {@code mapper} to every item in order and stops at the first failure. A sized
+     * input is collected into an array allocated once; other iterables grow an
+     * {@link ArrayList}.
+     */
+    @SuppressWarnings("unchecked")
+    static <A, B> Try<List<B>> traverse(
+            Iterable<? extends A> items, Function<? super A, Try<B>> mapper) {
+        if (items instanceof Collection<? extends A> collection) {
+            Object[] values = new Object[collection.size()];
+            int i = 0;
+            for (A item : collection) {
+                Try<B> result = apply(mapper, item);
+                if (result instanceof Success<B>(var value)) {
+                    values[i++] = value;
+                } else {
+                    return ((Failure<B>) result).retype();
+                }
+            }
+            return new Success<>(Arrays.asList((B[]) values));
+        }
+        List<B> values = new ArrayList<>();
+        for (A item : items) {
+            Try<B> result = apply(mapper, item);
+            if (result instanceof Success<B>(var value)) {
+                values.add(value);
+            } else {
+                return ((Failure<B>) result).retype();
+            }
+        }
+        return new Success<>(values);
+    }
+
+    private static <A, B> Try<B> apply(Function<? super A, Try<B>> mapper, A item) {
+        try {
+            return Objects.requireNonNull(mapper.apply(item), "mapper returned null");
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    /**
+     * Applies {@code mapper} to every item on at most {@code maxConcurrency} virtual threads.
+     * Each worker claims the next unprocessed index, so results are stored at the position of
+     * their input without any further sorting. The first failure observed interrupts all other
+     * workers and becomes the result. If the caller is interrupted, the workers are interrupted
+     * too and awaited before returning.
+     */
+    @SuppressWarnings("unchecked")
+    static <A, B> Try<List<B>> traverseParallel(
+            Collection<? extends A> items, Function<? super A, Try<B>> mapper, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(
+                    "maxConcurrency must be positive: " + maxConcurrency);
+        }
+        Object[] inputs = items.toArray();
+        int size = inputs.length;
+        Object[] results = new Object[size];
+        if (size == 0) return new Success<>(Arrays.asList((B[]) results));
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        int workerCount = Math.min(maxConcurrency, size);
+        Thread[] workers = new Thread[workerCount];
+        CountDownLatch done = new CountDownLatch(workerCount);
+        Runnable work =
+                () -> {
+                    try {
+                        int i;
+                        while (firstFailure.get() == null && (i = next.getAndIncrement()) < size) {
+                            Try<B> result = apply(mapper, (A) inputs[i]);
+                            if (result instanceof Success<B>(var value)) {
+                                results[i] = value;
+                            } else {
+                                if (firstFailure.compareAndSet(null, result.getCause())) {
+                                    interruptOthers(workers);
+                                }
+                                return;
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                };
+        for (int w = 0; w < workerCount; w++) {
+            workers[w] = Thread.ofVirtual().name("try-traverse-", w).unstarted(work);
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            interruptOthers(workers);
+            awaitUninterruptibly(done);
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        }
+        Throwable failure = firstFailure.get();
+        return failure != null
+                ? new Failure<>(failure)
+                : new Success<>(Arrays.asList((B[]) results));
+    }
+
+    /**
+     * Waits for the interrupted workers to finish, so none of them is still running the mapper
+     * once the caller gets its result.
+     */
+    private static void awaitUninterruptibly(CountDownLatch done) {
+        while (true) {
+            try {
+                done.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // the caller's interrupt is restored afterwards
+            }
+        }
+    }
+
+    private static void interruptOthers(Thread[] workers) {
+        Thread current = Thread.currentThread();
+        for (Thread worker : workers) {
+            if (worker != current) worker.interrupt();
+        }
+    }
+}
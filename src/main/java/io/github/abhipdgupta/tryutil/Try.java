@@ -1,6 +1,11 @@
 /* (C)2025 */
 package io.github.abhipdgupta.tryutil;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -8,7 +13,7 @@ import java.util.function.Supplier;
 /**
  * A functional-style container for computations that may succeed or fail.
  * <p>
- * This class encapsulates operations that may throw exceptions and allows handling
+ * This type encapsulates operations that may throw exceptions and allows handling
  * success and failure in a composable and declarative manner.
  * <p>
  * Inspired by {@code io.vavr.control.Try}, it provides:
@@ -18,11 +23,20 @@ import java.util.function.Supplier;
  *   <li>Safe defaults with {@code getOrElse} and {@code recover}</li>
  *   <li>Side-effect handling via {@code onSuccess} and {@code onFailure}</li>
  * </ul>
+ * <p>
+ * A {@code Try} is either a {@link Success} or a {@link Failure}. Both are records, so a
+ * {@code Try} can be taken apart with an exhaustive {@code switch}:
+ * <pre>{@code
+ * String text = switch (result) {
+ *     case Success(var value) -> "got " + value;
+ *     case Failure(var cause) -> "failed with " + cause;
+ * };
+ * }</pre>
  *
  * @param <T> the type of the successful result
  * @author Abhishek pd. gupta
  */
-public abstract class Try<T> {
+public sealed interface Try<T> permits Success, Failure {
     /**
      * Wraps a computation that may throw an exception into a {@code Try}.
      *
@@ -30,28 +44,249 @@ public abstract class Try<T> {
      * @param <T>      the type of the result
      * @return a Success with the value or Failure with the exception
      */
-    public static <T> Try<T> of(Supplier<T> supplier) {
+    static <T> Try<T> of(Supplier<T> supplier) {
+        Object timing = TryEvents.beginComputation();
+        T value;
         try {
-            return new Success<>(supplier.get());
+            value = supplier.get();
         } catch (Throwable t) {
-            return new Failure<>(t);
+            return failed(timing, t);
         }
+        return succeeded(timing, value);
     }
 
-    public static <T> Try<T> ofChecked(ThrowingSupplier<T> supplier) {
+    static <T> Try<T> ofChecked(ThrowingSupplier<T> supplier) {
+        Object timing = TryEvents.beginComputation();
+        T value;
         try {
-            return new Success<>(supplier.get());
+            value = supplier.get();
+        } catch (Throwable t) {
+            return failed(timing, t);
+        }
+        return succeeded(timing, value);
+    }
+
+    /**
+     * Records a computation that returned. Kept outside the {@code try} of the factories, so a
+     * throwing hook is not recorded a second time as a failure of the supplier.
+     */
+    private static <T> Try<T> succeeded(Object timing, T value) {
+        TryEvents.endComputation(timing, false);
+        if (TryMetrics.ENABLED) TryMetrics.global().recordSuccess();
+        return Success.valueOf(value);
+    }
+
+    private static <T> Try<T> failed(Object timing, Throwable cause) {
+        TryEvents.endComputation(timing, true);
+        TryEvents.failure(cause);
+        if (TryMetrics.ENABLED) TryMetrics.global().recordFailure(cause);
+        return new Failure<>(cause);
+    }
+
+    /**
+     * Runs a computation that produces no value.
+     * <p>
+     * Every successful run returns the same shared instance, see {@link #unit()}.
+     *
+     * @param runnable the computation
+     * @return {@link #unit()} or a Failure with the exception
+     */
+    static Try<Void> run(ThrowingRunnable runnable) {
+        try {
+            runnable.run();
+            return Success.valueOf(null);
         } catch (Throwable t) {
             return new Failure<>(t);
         }
     }
 
     /**
-     * Utility to rethrow a checked exception without wrapping.
+     * Returns the shared successful {@code Try} of a computation that produces no value.
+     *
+     * @return a Success holding {@code null}
      */
-    @SuppressWarnings("unchecked")
-    static <E extends Throwable> void sneakyThrow(Throwable t) throws E {
-        throw (E) t;
+    static Try<Void> unit() {
+        return Success.valueOf(null);
+    }
+
+    /**
+     * Creates a successful {@code Try}.
+     * <p>
+     * Like {@link #of(Supplier)}, common values such as {@code null}, {@code Boolean.TRUE} or
+     * small cached {@code Integer}s are wrapped in shared instances.
+     *
+     * @param value the value
+     * @param <T>   the type of the result
+     * @return a Success holding {@code value}
+     */
+    static <T> Try<T> success(T value) {
+        return Success.valueOf(value);
+    }
+
+    /**
+     * Creates a failed {@code Try} without running or throwing anything.
+     * <p>
+     * Combined with {@link TryException#stackless(String)} this reports an expected failure
+     * without paying for a stack walk.
+     *
+     * @param cause the cause of the failure
+     * @param <T>   the type of the result
+     * @return a Failure holding {@code cause}
+     */
+    static <T> Try<T> failure(Throwable cause) {
+        return new Failure<>(cause);
+    }
+
+    /**
+     * Runs a computation on a new virtual thread and waits at most {@code timeout} for it.
+     * <p>
+     * If the timeout expires, the computation is interrupted and the result is a Failure
+     * holding a {@link java.util.concurrent.TimeoutException} without stack trace; the
+     * computation's eventual outcome is discarded. If the calling thread is interrupted while
+     * waiting, the computation is interrupted too, the result is a Failure holding the
+     * {@link InterruptedException}, and the interrupt status is restored.
+     *
+     * @param supplier the computation
+     * @param timeout  the maximum time to wait
+     * @param <T>      the type of the result
+     * @return the outcome of the computation, or a Failure if it did not complete in time
+     */
+    static <T> Try<T> ofTimed(ThrowingSupplier<T> supplier, Duration timeout) {
+        return Timeouts.ofTimed(supplier, timeout);
+    }
+
+    /**
+     * Runs a computation and records how long it took in the timer with the given name,
+     * separately for successes and failures.
+     * <p>
+     * Looking the timer up costs a hash lookup per call; on hot paths, keep the
+     * {@link TryTimer} from {@link TryTimer#named(String)} in a field and call
+     * {@link TryTimer#time(ThrowingSupplier)}.
+     *
+     * @param name     the name of the timer, e.g. of the dependency being called
+     * @param supplier the computation
+     * @param <T>      the type of the result
+     * @return a Success with the value or Failure with the exception
+     */
+    static <T> Try<T> timed(String name, ThrowingSupplier<T> supplier) {
+        return TryTimer.named(name).time(supplier);
+    }
+
+    /**
+     * Defers a computation until its outcome is first needed, then remembers the outcome.
+     * <p>
+     * The computation runs at most once, even when several threads ask for the outcome at the
+     * same time. See {@link LazyTry}.
+     *
+     * @param supplier the computation
+     * @param <T>      the type of the result
+     * @return an unevaluated LazyTry
+     */
+    static <T> LazyTry<T> lazy(ThrowingSupplier<T> supplier) {
+        Objects.requireNonNull(supplier, "supplier");
+        return new LazyTry<>(() -> ofChecked(supplier));
+    }
+
+    /**
+     * Runs a computation, retrying failed attempts as described by {@code policy}.
+     * <p>
+     * The calling thread sleeps between attempts; on a virtual thread this does not block a
+     * platform thread. If the thread is interrupted while waiting, the result is a Failure
+     * holding the {@link InterruptedException} and the interrupt status is restored. Use
+     * {@link TryFuture#retry(ThrowingSupplier, RetryPolicy)} to retry without blocking.
+     *
+     * @param supplier the computation
+     * @param policy   when to retry and how long to wait
+     * @param <T>      the type of the result
+     * @return the first successful outcome, or the last failure once the policy gives up
+     */
+    static <T> Try<T> retry(ThrowingSupplier<T> supplier, RetryPolicy policy) {
+        return Retries.retry(supplier, policy);
+    }
+
+    /**
+     * Turns a list of {@code Try}s into a {@code Try} of a list, returning the first failure if
+     * there is one.
+     * <p>
+     * The values are collected into an array sized up front; the returned list is a
+     * fixed-size view of that array.
+     *
+     * @param results the results to combine
+     * @param <T>     the type of the values
+     * @return a Success with all values in order, or the first failure
+     */
+    static <T> Try<List<T>> sequence(List<Try<T>> results) {
+        return Traversals.sequence(results);
+    }
+
+    /**
+     * Applies {@code mapper} to every item in order and collects the successful results,
+     * stopping at the first failure.
+     * <p>
+     * No intermediate list of {@code Try}s is built. When {@code items} is a
+     * {@link Collection}, the results go into an array sized up front and the returned list is
+     * a fixed-size view of that array.
+     *
+     * @param items  the items to process
+     * @param mapper the function to apply to each item
+     * @param <A>    the type of the items
+     * @param <B>    the type of the results
+     * @return a Success with all results in order, or the first failure
+     */
+    static <A, B> Try<List<B>> traverse(
+            Iterable<? extends A> items, Function<? super A, Try<B>> mapper) {
+        return Traversals.traverse(items, mapper);
+    }
+
+    /**
+     * Applies {@code mapper} to every item concurrently, on at most {@code maxConcurrency}
+     * virtual threads, and collects the successful results in input order.
+     * <p>
+     * The first failure to occur stops the traversal: workers that are still running are
+     * interrupted, no further items are started, and that failure is returned. If the calling
+     * thread is interrupted while waiting, the workers are interrupted too and the result is a
+     * Failure holding the {@link InterruptedException}.
+     *
+     * @param items          the items to process
+     * @param mapper         the function to apply to each item
+     * @param maxConcurrency the maximum number of items processed at the same time
+     * @param <A>            the type of the items
+     * @param <B>            the type of the results
+     * @return a Success with all results in input order, or the first failure
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    static <A, B> Try<List<B>> traverseParallel(
+            Collection<? extends A> items, Function<? super A, Try<B>> mapper, int maxConcurrency) {
+        return Traversals.traverseParallel(items, mapper, maxConcurrency);
+    }
+
+    /**
+     * Runs all computations concurrently, each on its own virtual thread, and collects their
+     * results in order. The first failure interrupts the remaining computations.
+     *
+     * @param suppliers the computations
+     * @param <T>       the type of the results
+     * @return a Success with all results in order, or the first failure
+     * @see #traverseParallel(Collection, Function, int)
+     */
+    static <T> Try<List<T>> sequenceParallel(List<ThrowingSupplier<T>> suppliers) {
+        return sequenceParallel(suppliers, Math.max(1, suppliers.size()));
+    }
+
+    /**
+     * Runs the computations concurrently, at most {@code maxConcurrency} at a time, and
+     * collects their results in order. The first failure interrupts the remaining
+     * computations.
+     *
+     * @param suppliers      the computations
+     * @param maxConcurrency the maximum number of computations running at the same time
+     * @param <T>            the type of the results
+     * @return a Success with all results in order, or the first failure
+     * @see #traverseParallel(Collection, Function, int)
+     */
+    static <T> Try<List<T>> sequenceParallel(
+            List<ThrowingSupplier<T>> suppliers, int maxConcurrency) {
+        return Traversals.traverseParallel(suppliers, Try::ofChecked, maxConcurrency);
     }
 
     /**
@@ -59,7 +294,7 @@ public abstract class Try<T> {
      *
      * @return true if failure
      */
-    public abstract boolean isFailure();
+    boolean isFailure();
 
     /**
      * Transforms the successful value using the given function.
@@ -68,7 +303,7 @@ public abstract class Try<T> {
      * @param <U>    the type of the transformed value
      * @return a new Try with the transformed value or the original failure
      */
-    public abstract <U> Try<U> map(Function<? super T, ? extends U> mapper);
+    <U> Try<U> map(Function<? super T, ? extends U> mapper);
 
     /**
      * Flat-maps the successful value using a function returning a {@code Try}.
@@ -77,7 +312,79 @@ public abstract class Try<T> {
      * @param <U>    the type of the result
      * @return a new Try or the original failure
      */
-    public abstract <U> Try<U> flatMap(Function<? super T, Try<U>> mapper);
+    <U> Try<U> flatMap(Function<? super T, Try<U>> mapper);
+
+    /**
+     * Transforms the successful value using a function that also receives a context argument.
+     * <p>
+     * Passing request-scoped state as {@code ctx} lets callers use a non-capturing lambda,
+     * which the JVM allocates once instead of once per call.
+     *
+     * @param ctx    the context passed to {@code mapper}
+     * @param mapper the function to transform the value
+     * @param <C>    the type of the context
+     * @param <U>    the type of the transformed value
+     * @return a new Try with the transformed value or the original failure
+     */
+    <C, U> Try<U> map(C ctx, BiFunction<? super C, ? super T, ? extends U> mapper);
+
+    /**
+     * Flat-maps the successful value using a function that also receives a context argument.
+     *
+     * @param ctx    the context passed to {@code mapper}
+     * @param mapper the function to transform the value
+     * @param <C>    the type of the context
+     * @param <U>    the type of the result
+     * @return a new Try or the original failure
+     * @see #map(Object, BiFunction)
+     */
+    <C, U> Try<U> flatMap(C ctx, BiFunction<? super C, ? super T, Try<U>> mapper);
+
+    /**
+     * Transforms the successful value using a function that may throw a checked exception.
+     *
+     * @param mapper the function to transform the value
+     * @param <U>    the type of the transformed value
+     * @return a new Try with the transformed value, the exception thrown by {@code mapper},
+     *     or the original failure
+     */
+    <U> Try<U> mapChecked(ThrowingFunction<? super T, ? extends U> mapper);
+
+    /**
+     * Flat-maps the successful value using a function that may throw a checked exception.
+     *
+     * @param mapper the function to transform the value
+     * @param <U>    the type of the result
+     * @return the result of {@code mapper}, the exception it threw, or the original failure
+     */
+    <U> Try<U> flatMapChecked(ThrowingFunction<? super T, Try<U>> mapper);
+
+    /**
+     * Transforms the successful value using a function that also receives a context argument
+     * and may throw a checked exception.
+     *
+     * @param ctx    the context passed to {@code mapper}
+     * @param mapper the function to transform the value
+     * @param <C>    the type of the context
+     * @param <U>    the type of the transformed value
+     * @return a new Try with the transformed value, the exception thrown by {@code mapper},
+     *     or the original failure
+     * @see #map(Object, BiFunction)
+     */
+    <C, U> Try<U> mapChecked(C ctx, ThrowingBiFunction<? super C, ? super T, ? extends U> mapper);
+
+    /**
+     * Flat-maps the successful value using a function that also receives a context argument
+     * and may throw a checked exception.
+     *
+     * @param ctx    the context passed to {@code mapper}
+     * @param mapper the function to transform the value
+     * @param <C>    the type of the context
+     * @param <U>    the type of the result
+     * @return the result of {@code mapper}, the exception it threw, or the original failure
+     * @see #map(Object, BiFunction)
+     */
+    <C, U> Try<U> flatMapChecked(C ctx, ThrowingBiFunction<? super C, ? super T, Try<U>> mapper);
 
     /**
      * Returns the successful value or a default if failure.
@@ -85,7 +392,18 @@ public abstract class Try<T> {
      * @param other default value
      * @return the value or default
      */
-    public abstract T getOrElse(T other);
+    T getOrElse(T other);
+
+    /**
+     * Returns the successful value, or a fallback computed from the cause if failure.
+     * <p>
+     * Unlike {@link #get()} this never allocates an exception, which makes it the cheap way
+     * to unwrap a {@code Try} that is inspected repeatedly, e.g. in a retry loop.
+     *
+     * @param other the function computing the fallback from the cause
+     * @return the value or the fallback
+     */
+    T getOrElseGet(Function<? super Throwable, ? extends T> other);
 
     /**
      * Recovers from a failure by providing a fallback value.
@@ -93,7 +411,41 @@ public abstract class Try<T> {
      * @param recoverFunc the function to provide fallback
      * @return a new Try with fallback or original success
      */
-    public abstract Try<T> recover(Function<Throwable, ? extends T> recoverFunc);
+    Try<T> recover(Function<Throwable, ? extends T> recoverFunc);
+
+    /**
+     * Recovers from a failure using a function that also receives a context argument.
+     *
+     * @param ctx         the context passed to {@code recoverFunc}
+     * @param recoverFunc the function to provide fallback
+     * @param <C>         the type of the context
+     * @return a new Try with fallback or original success
+     * @see #map(Object, BiFunction)
+     */
+    <C> Try<T> recover(C ctx, BiFunction<? super C, Throwable, ? extends T> recoverFunc);
+
+    /**
+     * Recovers from a failure using a function that may throw a checked exception.
+     *
+     * @param recoverFunc the function to provide fallback
+     * @return a new Try with fallback, the exception thrown by {@code recoverFunc}, or the
+     *     original success
+     */
+    Try<T> recoverChecked(ThrowingFunction<? super Throwable, ? extends T> recoverFunc);
+
+    /**
+     * Recovers from a failure using a function that also receives a context argument and may
+     * throw a checked exception.
+     *
+     * @param ctx         the context passed to {@code recoverFunc}
+     * @param recoverFunc the function to provide fallback
+     * @param <C>         the type of the context
+     * @return a new Try with fallback, the exception thrown by {@code recoverFunc}, or the
+     *     original success
+     * @see #map(Object, BiFunction)
+     */
+    <C> Try<T> recoverChecked(
+            C ctx, ThrowingBiFunction<? super C, Throwable, ? extends T> recoverFunc);
 
     /**
      * Recovers from a failure selectively for a specific exception type.
@@ -103,7 +455,7 @@ public abstract class Try<T> {
      * @param <E>         type of exception
      * @return a new Try with fallback or original failure
      */
-    public abstract <E extends Throwable> Try<T> recover(
+    <E extends Throwable> Try<T> recover(
             Class<E> exClass, Function<? super E, ? extends T> recoverFunc);
 
     /**
@@ -112,7 +464,15 @@ public abstract class Try<T> {
      * @param action the consumer to accept the value
      * @return this Try
      */
-    public abstract Try<T> onSuccess(Consumer<? super T> action);
+    Try<T> onSuccess(Consumer<? super T> action);
+
+    /**
+     * Performs a side-effect action that may throw a checked exception if this is success.
+     *
+     * @param action the consumer to accept the value
+     * @return this Try, or a Failure with the exception thrown by {@code action}
+     */
+    Try<T> onSuccessChecked(ThrowingConsumer<? super T> action);
 
     /**
      * Performs a side-effect action if this is failure.
@@ -120,16 +480,17 @@ public abstract class Try<T> {
      * @param action the consumer to accept the exception
      * @return this Try
      */
-    public abstract Try<T> onFailure(Consumer<? super Throwable> action);
+    Try<T> onFailure(Consumer<? super Throwable> action);
 
     /**
      * Returns the value if success, otherwise throws the original exception.
+     * The exception is rethrown as is, without a wrapper.
      *
      * @return the value
      */
-    public T getOrElseThrow() {
+    default T getOrElseThrow() {
         if (isSuccess()) return get();
-        sneakyThrow(getCause());
+        Failure.sneakyThrow(getCause());
         return null; // unreachable
     }
 
@@ -138,22 +499,27 @@ public abstract class Try<T> {
      *
      * @return true if success
      */
-    public abstract boolean isSuccess();
+    boolean isSuccess();
 
     /**
-     * Returns the value if success, otherwise throws the original exception.
+     * Returns the value if success, otherwise throws a {@link TryException} wrapping the
+     * original exception.
+     * <p>
+     * The wrapper does not capture a stack trace of its own; its {@code getCause()} carries
+     * the original exception and trace. Use {@link #getOrElseThrow()} to rethrow the original
+     * exception without any wrapper.
      *
      * @return the successful value
-     * @throws TryException the original exception if this is a failure
+     * @throws TryException wrapping the original exception if this is a failure
      */
-    public abstract T get() throws TryException;
+    T get() throws TryException;
 
     /**
      * Returns the cause of failure if this {@code Try} is a failure.
      *
      * @return the exception cause
      */
-    public abstract Throwable getCause();
+    Throwable getCause();
 
     /**
      * Returns the value if success, otherwise throws a mapped exception.
@@ -163,7 +529,8 @@ public abstract class Try<T> {
      * @return the value
      * @throws X mapped exception
      */
-    public <X extends Throwable> T getOrElseThrow(Function<Throwable, X> exceptionMapper) throws X {
+    default <X extends Throwable> T getOrElseThrow(Function<Throwable, X> exceptionMapper)
+            throws X {
         if (isSuccess()) {
             try {
                 return get();
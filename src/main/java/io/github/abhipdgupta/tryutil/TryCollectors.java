@@ -0,0 +1,141 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s for streams of {@link Try}.
+ * <p>
+ * Every collector looks at each element once and reads the value or cause straight from the
+ * {@link Success} or {@link Failure} record, so no {@link TryException} is allocated. All of
+ * them support parallel streams; partial results are merged by appending lists.
+ */
+public final class TryCollectors {
+
+    private TryCollectors() {}
+
+    /**
+     * The values and causes of a stream of {@code Try}s, each in encounter order.
+     *
+     * @param successes the values of the successes
+     * @param failures  the causes of the failures
+     * @param <T>       the type of the values
+     */
+    public record Partition<T>(List<T> successes, List<Throwable> failures) {}
+
+    /**
+     * Splits the stream into the values of the successes and the causes of the failures.
+     *
+     * @param <T> the type of the values
+     * @return a collector producing a {@link Partition}
+     */
+    public static <T> Collector<Try<T>, ?, Partition<T>> partitioning() {
+        return Collector.of(
+                () -> new Partition<T>(new ArrayList<>(), new ArrayList<>()),
+                (partition, result) -> {
+                    switch (result) {
+                        case Success<T>(var value) -> partition.successes().add(value);
+                        case Failure<T>(var cause) -> partition.failures().add(cause);
+                    }
+                },
+                (left, right) -> {
+                    left.successes().addAll(right.successes());
+                    left.failures().addAll(right.failures());
+                    return left;
+                });
+    }
+
+    /**
+     * Collects the values of the successes and ignores the failures.
+     *
+     * @param <T> the type of the values
+     * @return a collector producing the list of values
+     */
+    public static <T> Collector<Try<T>, ?, List<T>> successesOnly() {
+        return Collector.of(
+                ArrayList::new,
+                (List<T> values, Try<T> result) -> {
+                    if (result instanceof Success<T>(var value)) values.add(value);
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
+    }
+
+    /**
+     * Collects the values of the successes, or returns the first failure in encounter order.
+     * Once a failure has been seen, the values collected so far are released.
+     *
+     * @param <T> the type of the values
+     * @return a collector producing a Success with the list of values or the first failure
+     */
+    public static <T> Collector<Try<T>, ?, Try<List<T>>> firstFailureOrList() {
+        return Collector.of(
+                FirstFailureOrList<T>::new,
+                FirstFailureOrList::add,
+                FirstFailureOrList::merge,
+                FirstFailureOrList::finish);
+    }
+
+    /**
+     * Groups the causes of the failures by their exact class and ignores the successes.
+     *
+     * @param <T> the type of the values
+     * @return a collector producing the causes grouped by class
+     */
+    public static <T>
+            Collector<Try<T>, ?, Map<Class<? extends Throwable>, List<Throwable>>>
+                    groupingByCauseClass() {
+        return Collector.of(
+                HashMap::new,
+                (Map<Class<? extends Throwable>, List<Throwable>> groups, Try<T> result) -> {
+                    if (result instanceof Failure<T>(var cause)) {
+                        groups.computeIfAbsent(cause.getClass(), c -> new ArrayList<>()).add(cause);
+                    }
+                },
+                (left, right) -> {
+                    right.forEach(
+                            (type, causes) ->
+                                    left.merge(
+                                            type,
+                                            causes,
+                                            (l, r) -> {
+                                                l.addAll(r);
+                                                return l;
+                                            }));
+                    return left;
+                });
+    }
+
+    private static final class FirstFailureOrList<T> {
+        private List<T> values = new ArrayList<>();
+        private Throwable failure;
+
+        void add(Try<T> result) {
+            if (failure != null) return;
+            switch (result) {
+                case Success<T>(var value) -> values.add(value);
+                case Failure<T>(var cause) -> {
+                    failure = cause;
+                    values = null;
+                }
+            }
+        }
+
+        FirstFailureOrList<T> merge(FirstFailureOrList<T> right) {
+            if (failure != null) return this;
+            if (right.failure != null) return right;
+            values.addAll(right.values);
+            return this;
+        }
+
+        Try<List<T>> finish() {
+            return failure != null ? new Failure<>(failure) : new Success<>(values);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+/**
+ * The hooks {@link Try} calls to emit JDK Flight Recorder events.
+ * <p>
+ * {@code jdk.jfr} is an optional module: a runtime built with {@code jlink} may leave it out.
+ * This class does not refer to any of its types; it checks once whether the module is
+ * present and only then forwards to {@link JfrEvents}, which is not loaded otherwise. The
+ * check is a {@code static final} constant, so on either kind of runtime the JIT reduces the
+ * hooks to what {@code JfrEvents} does, or to nothing.
+ */
+final class TryEvents {
+    private static final boolean AVAILABLE = isJfrPresent();
+
+    private TryEvents() {}
+
+    /**
+     * Starts timing a computation.
+     *
+     * @return the started event, or {@code null} if slow computations are not recorded
+     */
+    static Object beginComputation() {
+        return AVAILABLE ? JfrEvents.beginComputation() : null;
+    }
+
+    /**
+     * Ends timing a computation started with {@link #beginComputation()} and records it if it
+     * exceeded the threshold.
+     */
+    static void endComputation(Object started, boolean failed) {
+        if (started != null) JfrEvents.endComputation(started, failed);
+    }
+
+    static void failure(Throwable cause) {
+        if (AVAILABLE) JfrEvents.failure(cause);
+    }
+
+    static void recovered(Throwable cause) {
+        if (AVAILABLE) JfrEvents.recovered(cause);
+    }
+
+    private static boolean isJfrPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, TryEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
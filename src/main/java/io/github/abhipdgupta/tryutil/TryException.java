@@ -13,4 +13,56 @@ public class TryException extends RuntimeException {
     public TryException(Throwable cause) {
         super(cause);
     }
+
+    protected TryException(
+            String message,
+            Throwable cause,
+            boolean enableSuppression,
+            boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Creates an exception that does not capture a stack trace.
+     * <p>
+     * Meant for expected outcomes such as validation errors or cache misses, where the
+     * exception only carries a reason and walking the stack would dominate the cost.
+     *
+     * @param message the detail message
+     * @return a stackless exception
+     */
+    public static TryException stackless(String message) {
+        return new TryException(message, null, false, false);
+    }
+
+    /**
+     * Creates an exception with the given cause that does not capture a stack trace.
+     * The stack trace of interest is the one of {@code cause}.
+     *
+     * @param message the detail message
+     * @param cause   the cause
+     * @return a stackless exception
+     */
+    public static TryException stackless(String message, Throwable cause) {
+        return new TryException(message, cause, false, false);
+    }
+
+    /**
+     * Wraps the cause of a failure for {@link Try#get()}. The wrapper does not capture a stack
+     * trace of its own; the interesting trace is the one of the cause.
+     */
+    static TryException unwrapping(Throwable cause) {
+        return new Unwrapping(cause);
+    }
+
+    private static final class Unwrapping extends TryException {
+        Unwrapping(Throwable cause) {
+            super(null, cause, false, false);
+        }
+
+        @Override
+        public String getMessage() {
+            return getCause().toString();
+        }
+    }
 }
@@ -0,0 +1,313 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The asynchronous counterpart of {@link Try}: a computation running in the background whose
+ * outcome becomes a {@code Try} once it completes.
+ * <p>
+ * The underlying {@link CompletableFuture} always completes normally with a {@code Try}, so
+ * {@link #join()} never throws and failures are never wrapped in a
+ * {@link CompletionException} or {@link ExecutionException}. {@code map}, {@code flatMap} and
+ * {@code recover} do not block; they run on the thread that completes the previous stage.
+ * <p>
+ * Unless an executor is given, computations run on a new virtual thread each.
+ *
+ * @param <T> the type of the successful result
+ */
+public final class TryFuture<T> {
+    private static final Executor VIRTUAL_THREADS = Thread::startVirtualThread;
+
+    private final CompletableFuture<Try<T>> future;
+
+    private TryFuture(CompletableFuture<Try<T>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Runs a computation on a new virtual thread.
+     *
+     * @param supplier the computation
+     * @param <T>      the type of the result
+     * @return a TryFuture completing with the outcome of {@code supplier}
+     */
+    public static <T> TryFuture<T> ofAsync(ThrowingSupplier<T> supplier) {
+        return ofAsync(supplier, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Runs a computation on the given executor.
+     * <p>
+     * If the executor rejects the task, the returned future is already completed with a
+     * failure holding the rejection.
+     *
+     * @param supplier the computation
+     * @param executor the executor to run {@code supplier} on
+     * @param <T>      the type of the result
+     * @return a TryFuture completing with the outcome of {@code supplier}
+     */
+    public static <T> TryFuture<T> ofAsync(ThrowingSupplier<T> supplier, Executor executor) {
+        CompletableFuture<Try<T>> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> future.complete(Try.ofChecked(supplier)));
+        } catch (Throwable t) {
+            future.complete(new Failure<>(t));
+        }
+        return new TryFuture<>(future);
+    }
+
+    /**
+     * Runs a computation on virtual threads, retrying failed attempts as described by
+     * {@code policy}.
+     * <p>
+     * No thread is held while waiting between attempts: each retry is scheduled with
+     * {@link CompletableFuture#delayedExecutor(long, TimeUnit, Executor)} and then runs on a
+     * new virtual thread.
+     *
+     * @param supplier the computation
+     * @param policy   when to retry and how long to wait
+     * @param <T>      the type of the result
+     * @return a TryFuture completing with the first successful outcome, or the last failure
+     *     once the policy gives up
+     * @see Try#retry(ThrowingSupplier, RetryPolicy)
+     */
+    public static <T> TryFuture<T> retry(ThrowingSupplier<T> supplier, RetryPolicy policy) {
+        CompletableFuture<Try<T>> future = new CompletableFuture<>();
+        attempt(supplier, policy, future, System.nanoTime(), 1, 0, VIRTUAL_THREADS);
+        return new TryFuture<>(future);
+    }
+
+    private static <T> void attempt(
+            ThrowingSupplier<T> supplier,
+            RetryPolicy policy,
+            CompletableFuture<Try<T>> future,
+            long start,
+            int attempt,
+            long previousDelay,
+            Executor executor) {
+        try {
+            executor.execute(
+                    () -> {
+                        try {
+                            Try<T> result = Try.ofChecked(supplier);
+                            long delay;
+                            if (result instanceof Failure<T>(var cause)) {
+                                delay = policy.nextDelayNanos(attempt, previousDelay, start, cause);
+                            } else {
+                                policy.recordSuccess();
+                                delay = -1;
+                            }
+                            if (delay < 0) {
+                                future.complete(result);
+                            } else {
+                                attempt(
+                                        supplier,
+                                        policy,
+                                        future,
+                                        start,
+                                        attempt + 1,
+                                        delay,
+                                        CompletableFuture.delayedExecutor(
+                                                delay, TimeUnit.NANOSECONDS, VIRTUAL_THREADS));
+                            }
+                        } catch (Throwable t) {
+                            future.complete(new Failure<>(t));
+                        }
+                    });
+        } catch (Throwable t) {
+            future.complete(new Failure<>(t));
+        }
+    }
+
+    /**
+     * Creates an already completed {@code TryFuture}.
+     *
+     * @param result the outcome
+     * @param <T>    the type of the result
+     * @return a completed TryFuture
+     */
+    public static <T> TryFuture<T> completed(Try<T> result) {
+        return new TryFuture<>(CompletableFuture.completedFuture(result));
+    }
+
+    /**
+     * Adapts a {@link CompletionStage}, unwrapping {@link CompletionException} and
+     * {@link ExecutionException} so the failure holds the original exception.
+     *
+     * @param stage the stage to adapt
+     * @param <T>   the type of the result
+     * @return a TryFuture completing with the outcome of {@code stage}
+     */
+    public static <T> TryFuture<T> fromCompletionStage(CompletionStage<T> stage) {
+        return new TryFuture<>(
+                stage.<Try<T>>handle(
+                                (value, error) ->
+                                        error == null
+                                                ? Success.valueOf(value)
+                                                : new Failure<T>(unwrap(error)))
+                        .toCompletableFuture());
+    }
+
+    /**
+     * Transforms the successful value once available.
+     *
+     * @param mapper the function to transform the value
+     * @param <U>    the type of the transformed value
+     * @return a new TryFuture with the transformed value or the original failure
+     */
+    public <U> TryFuture<U> map(Function<? super T, ? extends U> mapper) {
+        return then(result -> result.map(mapper));
+    }
+
+    /**
+     * Chains another asynchronous computation on the successful value.
+     *
+     * @param mapper the function starting the next computation
+     * @param <U>    the type of the result
+     * @return a new TryFuture with the outcome of the next computation or the original failure
+     */
+    public <U> TryFuture<U> flatMap(Function<? super T, TryFuture<U>> mapper) {
+        return new TryFuture<>(
+                future.thenCompose(
+                        result ->
+                                switch (result) {
+                                    case Success<T>(var value) -> {
+                                        try {
+                                            yield mapper.apply(value).future;
+                                        } catch (Throwable t) {
+                                            yield CompletableFuture.completedFuture(
+                                                    new Failure<>(t));
+                                        }
+                                    }
+                                    case Failure<T> failure ->
+                                            CompletableFuture.completedFuture(failure.retype());
+                                }));
+    }
+
+    /**
+     * Recovers from a failure by providing a fallback value.
+     *
+     * @param recoverFunc the function to provide fallback
+     * @return a new TryFuture with fallback or original success
+     */
+    public TryFuture<T> recover(Function<Throwable, ? extends T> recoverFunc) {
+        return then(result -> result.recover(recoverFunc));
+    }
+
+    /**
+     * Recovers from a failure selectively for a specific exception type.
+     *
+     * @param exClass     the exception type to recover from
+     * @param recoverFunc the function providing fallback
+     * @param <E>         type of exception
+     * @return a new TryFuture with fallback or original failure
+     */
+    public <E extends Throwable> TryFuture<T> recover(
+            Class<E> exClass, Function<? super E, ? extends T> recoverFunc) {
+        return then(result -> result.recover(exClass, recoverFunc));
+    }
+
+    /**
+     * Performs a side-effect action with the outcome once available.
+     *
+     * @param action the consumer to accept the outcome
+     * @return this TryFuture
+     */
+    public TryFuture<T> onComplete(Consumer<? super Try<T>> action) {
+        future.thenAccept(action);
+        return this;
+    }
+
+    /**
+     * Returns {@code true} if the outcome is available.
+     *
+     * @return true if completed
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Waits for the outcome. This never throws; a failed computation yields a Failure.
+     *
+     * @return the outcome
+     */
+    public Try<T> join() {
+        return future.join();
+    }
+
+    /**
+     * Waits at most {@code timeout} for the outcome.
+     * <p>
+     * If the timeout expires, the result is a Failure holding a {@link TimeoutException}; the
+     * computation itself keeps running. If the waiting thread is interrupted, the result is a
+     * Failure holding the {@link InterruptedException} and the interrupt status is restored.
+     *
+     * @param timeout the maximum time to wait
+     * @return the outcome, or a Failure if it is not available in time
+     */
+    public Try<T> join(Duration timeout) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        } catch (TimeoutException e) {
+            return new Failure<>(e);
+        } catch (ExecutionException e) {
+            return new Failure<>(unwrap(e));
+        }
+    }
+
+    /**
+     * Returns a new {@link CompletableFuture} completing with the successful value, or
+     * exceptionally with the original cause. Completing or cancelling it does not affect this
+     * {@code TryFuture}.
+     *
+     * @return a CompletableFuture view of this TryFuture
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        return future.thenCompose(
+                result ->
+                        switch (result) {
+                            case Success<T>(var value) -> CompletableFuture.completedFuture(value);
+                            case Failure<T>(var cause) -> CompletableFuture.failedFuture(cause);
+                        });
+    }
+
+    private <U> TryFuture<U> then(Function<Try<T>, Try<U>> step) {
+        return new TryFuture<>(
+                future.thenApply(
+                        result -> {
+                            try {
+                                return step.apply(result);
+                            } catch (Throwable t) {
+                                return new Failure<>(t);
+                            }
+                        }));
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        while ((t instanceof CompletionException || t instanceof ExecutionException)
+                && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+
+    @Override
+    public String toString() {
+        Try<T> result = future.getNow(null);
+        return result == null ? "TryFuture(pending)" : "TryFuture(" + result + ")";
+    }
+}
@@ -0,0 +1,213 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in counters of {@link Try} outcomes.
+ * <p>
+ * Start the JVM with {@code -Dtryutil.metrics=true} to enable them. {@link Try#of(Supplier)},
+ * {@link Try#ofChecked(ThrowingSupplier)} and the {@code recover} methods then count
+ * successes, failures per exception class, and recoveries into the {@link #global()} site.
+ * Named call sites obtained from {@link #site(String)} count their own outcomes in addition:
+ * <pre>{@code
+ * static final TryMetrics.Site CHARGE = TryMetrics.site("payments.charge");
+ *
+ * Try<Receipt> receipt = CHARGE.ofChecked(() -> payments.charge(order));
+ * TryMetrics.Snapshot stats = CHARGE.snapshot();
+ * }</pre>
+ * Counters are {@link LongAdder}s, and the counter of an exception class is found through a
+ * {@link ClassValue}, so recording never takes a lock. The switch is read once into a
+ * {@code static final} field; when it is off, every hook is a branch on a constant that the
+ * JIT removes.
+ */
+public final class TryMetrics {
+    /** Whether outcomes are recorded, from the {@code tryutil.metrics} system property. */
+    static final boolean ENABLED = Boolean.getBoolean("tryutil.metrics");
+
+    private static final Site GLOBAL = new Site("global");
+    private static final ConcurrentHashMap<String, Site> SITES = new ConcurrentHashMap<>();
+
+    private TryMetrics() {}
+
+    /**
+     * The counts recorded by a site at one point in time.
+     *
+     * @param successes       the number of successful computations
+     * @param failures        the number of failed computations
+     * @param recoveries      the number of failures turned into successes by {@code recover}
+     * @param failuresByClass the number of failures per exception class name, as returned by
+     *                        {@link Class#getName()}
+     */
+    public record Snapshot(
+            long successes, long failures, long recoveries, Map<String, Long> failuresByClass) {}
+
+    /**
+     * Returns {@code true} if recording is enabled.
+     *
+     * @return true if {@code -Dtryutil.metrics=true} was given
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the site that counts every outcome of {@code Try.of}, {@code Try.ofChecked} and
+     * {@code recover}.
+     *
+     * @return the global site
+     */
+    public static Site global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the site with the given name, creating it on first use. Keep the result in a
+     * field rather than looking it up per call.
+     *
+     * @param name the name of the call site
+     * @return the site
+     */
+    public static Site site(String name) {
+        return SITES.computeIfAbsent(name, Site::new);
+    }
+
+    /**
+     * Takes a snapshot of every named site.
+     *
+     * @return the snapshots by site name, sorted by name
+     */
+    public static Map<String, Snapshot> sites() {
+        Map<String, Snapshot> snapshots = new TreeMap<>();
+        SITES.forEach((name, site) -> snapshots.put(name, site.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * A named set of counters.
+     * <p>
+     * Failures are counted per exception class name rather than per {@link Class}, so a site
+     * kept in a static field does not keep the classes, or the class loaders of webapps and
+     * plugins that defined them, from being unloaded. The table has one counter per distinct
+     * name seen, which the code base bounds.
+     */
+    public static final class Site {
+        private final String name;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder recoveries = new LongAdder();
+        private final ConcurrentHashMap<String, LongAdder> failureTable = new ConcurrentHashMap<>();
+        private final ClassValue<LongAdder> failureCounters =
+                new ClassValue<>() {
+                    @Override
+                    protected LongAdder computeValue(Class<?> type) {
+                        return failureTable.computeIfAbsent(
+                                type.getName(), name -> new LongAdder());
+                    }
+                };
+
+        private Site(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of this site.
+         *
+         * @return the name
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Like {@link Try#of(Supplier)}, also counting the outcome at this site.
+         *
+         * @param supplier the computation
+         * @param <T>      the type of the result
+         * @return a Success with the value or Failure with the exception
+         */
+        public <T> Try<T> of(Supplier<T> supplier) {
+            return record(Try.of(supplier));
+        }
+
+        /**
+         * Like {@link Try#ofChecked(ThrowingSupplier)}, also counting the outcome at this site.
+         *
+         * @param supplier the computation
+         * @param <T>      the type of the result
+         * @return a Success with the value or Failure with the exception
+         */
+        public <T> Try<T> ofChecked(ThrowingSupplier<T> supplier) {
+            return record(Try.ofChecked(supplier));
+        }
+
+        /**
+         * Counts an outcome produced elsewhere, such as the result of a {@link TryFuture}.
+         * Does nothing if recording is disabled.
+         *
+         * @param result the outcome
+         * @param <T>    the type of the result
+         * @return {@code result}
+         */
+        public <T> Try<T> record(Try<T> result) {
+            if (ENABLED) {
+                if (result instanceof Failure<T>(var cause)) {
+                    recordFailure(cause);
+                } else {
+                    recordSuccess();
+                }
+            }
+            return result;
+        }
+
+        void recordSuccess() {
+            successes.increment();
+        }
+
+        void recordFailure(Throwable cause) {
+            failures.increment();
+            failureCounters.get(cause.getClass()).increment();
+        }
+
+        void recordRecovery() {
+            recoveries.increment();
+        }
+
+        /**
+         * Reads the current counts. Counts recorded while the snapshot is taken may or may not
+         * be included.
+         *
+         * @return the current counts
+         */
+        public Snapshot snapshot() {
+            Map<String, Long> byClass = new HashMap<>();
+            failureTable.forEach(
+                    (name, count) -> {
+                        long sum = count.sum();
+                        if (sum > 0) byClass.put(name, sum);
+                    });
+            return new Snapshot(
+                    successes.sum(), failures.sum(), recoveries.sum(), Map.copyOf(byClass));
+        }
+
+        /**
+         * Sets all counts back to zero. Counts recorded concurrently may be lost.
+         */
+        public void reset() {
+            successes.reset();
+            failures.reset();
+            recoveries.reset();
+            failureTable.values().forEach(LongAdder::reset);
+        }
+
+        @Override
+        public String toString() {
+            return "TryMetrics.Site(" + name + ", " + snapshot() + ")";
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.UUID;
+
+/**
+ * Parsing factories that report malformed input as a failure instead of throwing.
+ * <p>
+ * Wrapping {@code Integer.parseInt} and friends in {@link Try#of} makes the JDK build and throw
+ * an exception with a full stack trace for every bad input. These methods validate and parse
+ * in one pass; invalid input yields a failure holding a stackless exception of the same type
+ * the JDK method would have thrown, so {@code recover(NumberFormatException.class, ...)} and
+ * similar code keeps working. Nothing is thrown.
+ */
+public final class TryParse {
+
+    private TryParse() {}
+
+    /**
+     * Parses a signed decimal {@code int}, accepting the same input as
+     * {@link Integer#parseInt(String)}.
+     *
+     * @param s the text to parse
+     * @return a success with the value or a failure with a {@link NumberFormatException}
+     */
+    public static IntTry parseInt(CharSequence s) {
+        if (s == null) return IntTry.failure(new MalformedNumber(null));
+        int len = s.length();
+        if (len == 0) return IntTry.failure(new MalformedNumber(s));
+        int i = 0;
+        boolean negative = false;
+        int limit = -Integer.MAX_VALUE;
+        char first = s.charAt(0);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = Integer.MIN_VALUE;
+            } else if (first != '+') {
+                return IntTry.failure(new MalformedNumber(s));
+            }
+            if (len == 1) return IntTry.failure(new MalformedNumber(s));
+            i++;
+        }
+        int multmin = limit / 10;
+        int result = 0;
+        while (i < len) {
+            int digit = Character.digit(s.charAt(i++), 10);
+            if (digit < 0 || result < multmin) return IntTry.failure(new MalformedNumber(s));
+            result *= 10;
+            if (result < limit + digit) return IntTry.failure(new MalformedNumber(s));
+            result -= digit;
+        }
+        return IntTry.success(negative ? result : -result);
+    }
+
+    /**
+     * Parses a signed decimal {@code long}, accepting the same input as
+     * {@link Long#parseLong(String)}.
+     *
+     * @param s the text to parse
+     * @return a success with the value or a failure with a {@link NumberFormatException}
+     */
+    public static LongTry parseLong(CharSequence s) {
+        if (s == null) return LongTry.failure(new MalformedNumber(null));
+        int len = s.length();
+        if (len == 0) return LongTry.failure(new MalformedNumber(s));
+        int i = 0;
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        char first = s.charAt(0);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            } else if (first != '+') {
+                return LongTry.failure(new MalformedNumber(s));
+            }
+            if (len == 1) return LongTry.failure(new MalformedNumber(s));
+            i++;
+        }
+        long multmin = limit / 10;
+        long result = 0;
+        while (i < len) {
+            int digit = Character.digit(s.charAt(i++), 10);
+            if (digit < 0 || result < multmin) return LongTry.failure(new MalformedNumber(s));
+            result *= 10;
+            if (result < limit + digit) return LongTry.failure(new MalformedNumber(s));
+            result -= digit;
+        }
+        return LongTry.success(negative ? result : -result);
+    }
+
+    /**
+     * Parses a {@code double}, accepting the same input as {@link Double#parseDouble(String)}.
+     * <p>
+     * Decimal input, {@code NaN} and {@code Infinity} are validated up front. Hexadecimal
+     * floating-point literals are rare enough that they are handed to the JDK as is.
+     *
+     * @param s the text to parse
+     * @return a success with the value or a failure with a {@link NumberFormatException}
+     */
+    public static DoubleTry parseDouble(CharSequence s) {
+        if (s == null) return DoubleTry.failure(new MalformedNumber(null));
+        if (!isDecimalFloatOrHex(s)) return DoubleTry.failure(new MalformedNumber(s));
+        try {
+            return DoubleTry.success(Double.parseDouble(s.toString()));
+        } catch (NumberFormatException e) {
+            return DoubleTry.failure(e);
+        }
+    }
+
+    /**
+     * Parses a {@link UUID} in its canonical {@code 8-4-4-4-12} hexadecimal form, as produced
+     * by {@link UUID#toString()}.
+     * <p>
+     * Unlike {@link UUID#fromString(String)} the shortened forms with fewer digits per group
+     * are not accepted.
+     *
+     * @param s the text to parse
+     * @return a success with the UUID or a failure with an {@link IllegalArgumentException}
+     */
+    public static Try<UUID> parseUUID(CharSequence s) {
+        if (s == null || s.length() != 36) return new Failure<>(new MalformedUUID(s));
+        if (s.charAt(8) != '-'
+                || s.charAt(13) != '-'
+                || s.charAt(18) != '-'
+                || s.charAt(23) != '-') {
+            return new Failure<>(new MalformedUUID(s));
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 36; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) continue;
+            int digit = hexDigit(s.charAt(i));
+            if (digit < 0) return new Failure<>(new MalformedUUID(s));
+            if (i < 19) {
+                msb = (msb << 4) | digit;
+            } else {
+                lsb = (lsb << 4) | digit;
+            }
+        }
+        return new Success<>(new UUID(msb, lsb));
+    }
+
+    /**
+     * Parses an {@link Instant} in ISO-8601 form, accepting the same input as
+     * {@link Instant#parse(CharSequence)}.
+     *
+     * @param s the text to parse
+     * @return a success with the instant or a failure with a {@link DateTimeParseException}
+     */
+    public static Try<Instant> parseInstant(CharSequence s) {
+        if (s == null) return new Failure<>(new MalformedInstant("null", 0));
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor parsed = DateTimeFormatter.ISO_INSTANT.parseUnresolved(s, position);
+        if (parsed == null || position.getErrorIndex() >= 0 || position.getIndex() < s.length()) {
+            int errorIndex =
+                    position.getErrorIndex() >= 0 ? position.getErrorIndex() : position.getIndex();
+            return new Failure<>(new MalformedInstant(s, errorIndex));
+        }
+        try {
+            long nanos =
+                    parsed.isSupported(ChronoField.NANO_OF_SECOND)
+                            ? parsed.getLong(ChronoField.NANO_OF_SECOND)
+                            : 0;
+            return new Success<>(
+                    Instant.ofEpochSecond(parsed.getLong(ChronoField.INSTANT_SECONDS), nanos));
+        } catch (DateTimeException e) {
+            return new Failure<>(new MalformedInstant(s, e));
+        }
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    /**
+     * Checks the grammar accepted by {@link Double#valueOf(String)} for decimal input, including
+     * surrounding whitespace, {@code NaN}, {@code Infinity} and the {@code fFdD} suffix.
+     * Hexadecimal input is reported as valid and left to the JDK parser.
+     */
+    private static boolean isDecimalFloatOrHex(CharSequence s) {
+        int start = 0;
+        int end = s.length();
+        while (start < end && s.charAt(start) <= ' ') start++;
+        while (end > start && s.charAt(end - 1) <= ' ') end--;
+        int i = start;
+        if (i < end && (s.charAt(i) == '+' || s.charAt(i) == '-')) i++;
+        if (i == end) return false;
+        char c = s.charAt(i);
+        if (c == 'N') return regionEquals(s, i, end, "NaN");
+        if (c == 'I') return regionEquals(s, i, end, "Infinity");
+        if (c == '0' && i + 1 < end && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X')) {
+            return true;
+        }
+        int digits = 0;
+        while (i < end && isAsciiDigit(s.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < end && s.charAt(i) == '.') {
+            i++;
+            while (i < end && isAsciiDigit(s.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) return false;
+        if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (s.charAt(i) == '+' || s.charAt(i) == '-')) i++;
+            int exponentDigits = 0;
+            while (i < end && isAsciiDigit(s.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) return false;
+        }
+        if (i < end && "fFdD".indexOf(s.charAt(i)) >= 0) i++;
+        return i == end;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean regionEquals(CharSequence s, int from, int to, String expected) {
+        if (to - from != expected.length()) return false;
+        for (int i = 0; i < expected.length(); i++) {
+            if (s.charAt(from + i) != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /** A {@link NumberFormatException} without stack trace whose message is built lazily. */
+    private static final class MalformedNumber extends NumberFormatException {
+        private final String input;
+
+        MalformedNumber(CharSequence input) {
+            this.input = input == null ? null : input.toString();
+        }
+
+        @Override
+        public String getMessage() {
+            return input == null
+                    ? "Cannot parse null string: null"
+                    : "For input string: \"" + input + "\"";
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /** An {@link IllegalArgumentException} without stack trace whose message is built lazily. */
+    private static final class MalformedUUID extends IllegalArgumentException {
+        private final String input;
+
+        MalformedUUID(CharSequence input) {
+            this.input = input == null ? null : input.toString();
+        }
+
+        @Override
+        public String getMessage() {
+            return "Invalid UUID string: " + input;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /** A {@link DateTimeParseException} without stack trace. */
+    private static final class MalformedInstant extends DateTimeParseException {
+        MalformedInstant(CharSequence input, int errorIndex) {
+            super(
+                    "Text '" + input + "' could not be parsed at index " + errorIndex,
+                    input,
+                    errorIndex);
+        }
+
+        MalformedInstant(CharSequence input, DateTimeException cause) {
+            super(
+                    "Text '" + input + "' could not be parsed: " + cause.getMessage(),
+                    input,
+                    0,
+                    cause);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
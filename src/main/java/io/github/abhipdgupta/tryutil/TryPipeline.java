@@ -0,0 +1,214 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A reusable chain of {@code map}, {@code flatMap} and {@code recover} stages, applied to
+ * many inputs.
+ * <p>
+ * Chaining the same operations on a {@link Try} creates an intermediate {@code Success} per
+ * stage and runs a separate try/catch in each. A pipeline is built once, typically into a
+ * {@code static final} field, and then runs all stages in a single loop under one try/catch.
+ * Values are still passed between stages as objects, so primitive results are boxed:
+ * <pre>{@code
+ * static final TryPipeline<String, Order> PARSE =
+ *         TryPipeline.<String>start()
+ *                 .map(String::trim)
+ *                 .map(Order::parse)
+ *                 .flatMap(Order::validate)
+ *                 .recover(ParseException.class, e -> Order.EMPTY);
+ *
+ * Try<Order> order = PARSE.apply(message);
+ * }</pre>
+ * The result of {@link #apply(Object)} is the same as the equivalent chain of calls on
+ * {@code Try.success(input)}. Builder methods return new pipelines; a pipeline is immutable
+ * and can be shared between threads.
+ * <p>
+ * A pipeline only saves allocation where the chained calls are not inlined, such as long
+ * chains in large request handlers; once the JIT inlines a short chain, it removes the
+ * intermediate {@code Success} objects itself and the chain may allocate less. Since a pipeline is a {@code Function<A, Try<B>>}, it can also be passed to
+ * {@link Try#flatMap(Function)} or {@link Try#traverse(Iterable, Function)}.
+ *
+ * @param <A> the type of the input
+ * @param <B> the type of the successful result
+ */
+public final class TryPipeline<A, B> implements Function<A, Try<B>> {
+    private static final int MAP = 0;
+    private static final int FLAT_MAP = 1;
+    private static final int RECOVER = 2;
+
+    private static final TryPipeline<?, ?> EMPTY = new TryPipeline<>(new Stage[0]);
+
+    private final Stage[] stages;
+
+    private TryPipeline(Stage[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Returns a pipeline without stages, which wraps its input in a Success.
+     *
+     * @param <A> the type of the input
+     * @return the empty pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> TryPipeline<A, A> start() {
+        return (TryPipeline<A, A>) EMPTY;
+    }
+
+    /**
+     * Appends a stage transforming the successful value.
+     *
+     * @param mapper the function to transform the value
+     * @param <C>    the type of the transformed value
+     * @return a new pipeline ending with this stage
+     * @see Try#map(Function)
+     */
+    public <C> TryPipeline<A, C> map(Function<? super B, ? extends C> mapper) {
+        return append(new Stage(MAP, mapper, null));
+    }
+
+    /**
+     * Appends a stage flat-mapping the successful value.
+     *
+     * @param mapper the function to transform the value
+     * @param <C>    the type of the result
+     * @return a new pipeline ending with this stage
+     * @see Try#flatMap(Function)
+     */
+    public <C> TryPipeline<A, C> flatMap(Function<? super B, Try<C>> mapper) {
+        return append(new Stage(FLAT_MAP, mapper, null));
+    }
+
+    /**
+     * Appends a stage recovering from any failure of the previous stages.
+     *
+     * @param recoverFunc the function to provide fallback
+     * @return a new pipeline ending with this stage
+     * @see Try#recover(Function)
+     */
+    public TryPipeline<A, B> recover(Function<Throwable, ? extends B> recoverFunc) {
+        return append(new Stage(RECOVER, recoverFunc, Throwable.class));
+    }
+
+    /**
+     * Appends a stage recovering from failures of a specific exception type.
+     *
+     * @param exClass     the exception type to recover from
+     * @param recoverFunc the function providing fallback
+     * @param <E>         type of exception
+     * @return a new pipeline ending with this stage
+     * @see Try#recover(Class, Function)
+     */
+    public <E extends Throwable> TryPipeline<A, B> recover(
+            Class<E> exClass, Function<? super E, ? extends B> recoverFunc) {
+        return append(new Stage(RECOVER, recoverFunc, Objects.requireNonNull(exClass, "exClass")));
+    }
+
+    /**
+     * Runs all stages on {@code input}.
+     *
+     * @param input the input value
+     * @return a Success with the final value, or the failure no later stage recovered from
+     */
+    @Override
+    public Try<B> apply(A input) {
+        return run(input, null);
+    }
+
+    /**
+     * Runs all stages on the outcome of an earlier computation. A failure skips ahead to the
+     * first matching {@code recover} stage.
+     *
+     * @param input the earlier outcome
+     * @return a Success with the final value, or the failure no later stage recovered from
+     */
+    public Try<B> applyTo(Try<? extends A> input) {
+        return switch (input) {
+            case Success<? extends A>(var value) -> run(value, null);
+            case Failure<? extends A>(var cause) -> run(null, cause);
+        };
+    }
+
+    /**
+     * Returns the number of stages.
+     *
+     * @return the number of stages
+     */
+    public int size() {
+        return stages.length;
+    }
+
+    /**
+     * The fused loop. A single try/catch covers all stages: when a stage throws, the exception
+     * becomes the current cause and the loop resumes at the next stage. The value and cause
+     * travel in locals, so nothing is allocated between stages. As with the chained calls, an
+     * {@link Error} thrown by a map stage propagates, and recoveries are reported to the
+     * metrics and events hooks.
+     */
+    @SuppressWarnings("unchecked")
+    private Try<B> run(Object value, Throwable cause) {
+        Stage[] stages = this.stages;
+        int i = 0;
+        while (true) {
+            try {
+                for (; i < stages.length; i++) {
+                    Stage stage = stages[i];
+                    if (cause == null) {
+                        if (stage.kind == MAP) {
+                            value = stage.fn.apply(value);
+                        } else if (stage.kind == FLAT_MAP) {
+                            switch ((Try<?>) stage.fn.apply(value)) {
+                                case Success<?>(var next) -> value = next;
+                                case Failure<?>(var next) -> {
+                                    value = null;
+                                    cause = next;
+                                }
+                            }
+                        }
+                    } else if (stage.kind == RECOVER && stage.type.isInstance(cause)) {
+                        value = stage.fn.apply(cause);
+                        Failure.onRecovered(cause);
+                        cause = null;
+                    }
+                }
+                break;
+            } catch (Throwable t) {
+                if (stages[i].kind == MAP && !(t instanceof Exception)) {
+                    Failure.sneakyThrow(t);
+                }
+                value = null;
+                cause = t;
+                i++;
+            }
+        }
+        return cause == null ? Success.valueOf((B) value) : new Failure<>(cause);
+    }
+
+    private <C> TryPipeline<A, C> append(Stage stage) {
+        Stage[] extended = Arrays.copyOf(stages, stages.length + 1);
+        extended[stages.length] = stage;
+        return new TryPipeline<>(extended);
+    }
+
+    @Override
+    public String toString() {
+        return "TryPipeline(" + stages.length + " stages)";
+    }
+
+    private static final class Stage {
+        final int kind;
+        final Function<Object, Object> fn;
+        final Class<?> type;
+
+        @SuppressWarnings("unchecked")
+        Stage(int kind, Function<?, ?> fn, Class<?> type) {
+            this.kind = kind;
+            this.fn = (Function<Object, Object>) Objects.requireNonNull(fn, "function");
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final ThrowingSupplier<String> FAILING =
+            () -> {
+                throw new IOException("down");
+            };
+
+    @Test
+    void testOpensWhenFailureRateReached() {
+        CircuitBreaker breaker = CircuitBreaker.of(4, 0.5, Duration.ofMinutes(1));
+        breaker.call(() -> "ok");
+        breaker.call(FAILING);
+        breaker.call(() -> "ok");
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        breaker.call(FAILING);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void testOpenBreakerRejectsWithSharedFailure() {
+        CircuitBreaker breaker = CircuitBreaker.of(1, 1, Duration.ofMinutes(1));
+        breaker.call(FAILING);
+
+        AtomicInteger calls = new AtomicInteger();
+        Try<Integer> first = breaker.call(calls::incrementAndGet);
+        Try<String> second = breaker.call(() -> "never");
+
+        assertEquals(0, calls.get());
+        assertInstanceOf(CircuitBreaker.OpenException.class, first.getCause());
+        assertSame(first.getCause(), second.getCause());
+        assertEquals(0, first.getCause().getStackTrace().length);
+        assertEquals(2, breaker.rejectedCalls());
+    }
+
+    @Test
+    void testHalfOpenTrialClosesOrReopens() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.of(2, 0.5, Duration.ofMillis(20));
+        breaker.call(FAILING);
+        breaker.call(FAILING);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        Thread.sleep(30);
+        assertTrue(breaker.call(FAILING).getCause() instanceof IOException);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        Thread.sleep(30);
+        assertEquals("ok", breaker.call(() -> "ok").get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        breaker.call(FAILING);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void testCallFromBeforeTripCannotReopenClosedBreaker() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.of(2, 1, Duration.ZERO);
+        CountDownLatch admitted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread stale =
+                Thread.ofVirtual()
+                        .start(
+                                () ->
+                                        breaker.call(
+                                                () -> {
+                                                    admitted.countDown();
+                                                    release.await();
+                                                    throw new IOException("late");
+                                                }));
+        admitted.await();
+
+        breaker.call(FAILING);
+        breaker.call(FAILING);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals("ok", breaker.call(() -> "ok").get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        breaker.call(() -> "ok");
+        breaker.call(FAILING);
+        assertEquals("CircuitBreaker(CLOSED, failures=1/2)", breaker.toString());
+
+        release.countDown();
+        stale.join();
+        assertEquals("CircuitBreaker(CLOSED, failures=1/2)", breaker.toString());
+        breaker.call(FAILING);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void testOnlyOneTrialWhileHalfOpen() throws InterruptedException {
+        CircuitBreaker breaker =
+                CircuitBreaker.of(1, 1, Duration.ZERO).trialTimeout(Duration.ofMinutes(1));
+        breaker.call(FAILING);
+
+        Try<String> nested =
+                breaker.call(
+                        () -> {
+                            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+                            return breaker.<String>call(() -> "inner").getOrElse("rejected");
+                        });
+        assertEquals("rejected", nested.get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void testHungTrialIsAbandoned() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.of(1, 1, Duration.ZERO);
+        breaker.call(FAILING);
+        CountDownLatch admitted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread hung =
+                Thread.ofVirtual()
+                        .start(
+                                () ->
+                                        breaker.call(
+                                                () -> {
+                                                    admitted.countDown();
+                                                    release.await();
+                                                    throw new IOException("late");
+                                                }));
+        admitted.await();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        assertEquals("ok", breaker.call(() -> "ok").get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        release.countDown();
+        hung.join();
+        assertEquals("CircuitBreaker(CLOSED, failures=0/1)", breaker.toString());
+    }
+
+    @Test
+    void testFailureClassification() {
+        CircuitBreaker breaker =
+                CircuitBreaker.of(1, 1, Duration.ofMinutes(1))
+                        .recordOn(IOException.class)
+                        .ignore(FileNotFoundException.class);
+
+        breaker.call(
+                () -> {
+                    throw new IllegalStateException();
+                });
+        breaker.call(
+                () -> {
+                    throw new FileNotFoundException();
+                });
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        breaker.call(FAILING);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> CircuitBreaker.of(0, 0.5, Duration.ofSeconds(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> CircuitBreaker.of(10, 0, Duration.ofSeconds(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> CircuitBreaker.of(10, 0.5, Duration.ofSeconds(-1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        CircuitBreaker.of(10, 0.5, Duration.ZERO)
+                                .trialTimeout(Duration.ofSeconds(-1)));
+    }
+}
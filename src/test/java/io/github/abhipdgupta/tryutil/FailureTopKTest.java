@@ -0,0 +1,148 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class FailureTopKTest {
+
+    @Test
+    void testFindsHeavyHittersAmongManySignatures() {
+        FailureTopK topK = FailureTopK.create(3, 0);
+        for (int i = 0; i < 1000; i++) {
+            topK.accept(new IOException("io " + i));
+            if (i % 2 == 0) topK.accept(new TimeoutException());
+            if (i % 4 == 0) topK.accept(new IllegalStateException());
+            topK.accept(rare(i));
+        }
+
+        List<FailureTopK.Signature> top = topK.top();
+        assertEquals(3, top.size());
+        assertEquals(IOException.class.getName(), top.get(0).type());
+        assertEquals("io 0", top.get(0).message());
+        assertEquals(TimeoutException.class.getName(), top.get(1).type());
+        assertEquals(IllegalStateException.class.getName(), top.get(2).type());
+        assertTrue(top.get(0).count() >= 1000 && top.get(0).count() < 1010);
+        assertEquals(2750, topK.total());
+    }
+
+    @Test
+    void testStackFramesSeparateCallSites() {
+        FailureTopK topK = FailureTopK.create(5, 1);
+        for (int i = 0; i < 10; i++) {
+            topK.accept(first());
+        }
+        for (int i = 0; i < 5; i++) {
+            topK.accept(second());
+        }
+
+        List<FailureTopK.Signature> top = topK.top();
+        assertEquals(2, top.size());
+        assertEquals(10, top.get(0).count());
+        assertEquals("first", top.get(0).frames().get(0).getMethodName());
+        assertEquals("second", top.get(1).frames().get(0).getMethodName());
+    }
+
+    @Test
+    void testAttachesToOnFailure() {
+        FailureTopK topK = FailureTopK.create(2, 3);
+        Try.ofChecked(
+                        () -> {
+                            throw new IOException("down");
+                        })
+                .onFailure(topK);
+        Try.of(() -> "ok").onFailure(topK);
+
+        assertEquals(1, topK.total());
+        assertEquals("down", topK.top().get(0).message());
+        topK.reset();
+        assertEquals(0, topK.top().size());
+    }
+
+    @Test
+    void testConcurrentUpdates() throws InterruptedException {
+        FailureTopK topK = FailureTopK.create(2, 2);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(
+                    Thread.startVirtualThread(
+                            () -> {
+                                for (int i = 0; i < 5000; i++) {
+                                    topK.accept(TryException.stackless("hot"));
+                                }
+                            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, topK.total());
+        assertEquals(40_000, topK.top().get(0).count());
+    }
+
+    @Test
+    void testClassOnlySignatureSkipsStackTrace() {
+        AtomicInteger traces = new AtomicInteger();
+        FailureTopK topK = FailureTopK.create(2, 0);
+        for (int i = 0; i < 3; i++) {
+            topK.accept(
+                    new IOException() {
+                        @Override
+                        public StackTraceElement[] getStackTrace() {
+                            traces.incrementAndGet();
+                            return super.getStackTrace();
+                        }
+                    });
+        }
+        assertEquals(0, traces.get());
+        assertEquals(List.of(), topK.top().get(0).frames());
+    }
+
+    @Test
+    void testThrowingGetMessageIsRecorded() {
+        FailureTopK topK = FailureTopK.create(1, 0);
+        topK.accept(
+                new IllegalStateException() {
+                    @Override
+                    public String getMessage() {
+                        throw new UnsupportedOperationException();
+                    }
+                });
+
+        assertEquals(
+                "<getMessage() threw java.lang.UnsupportedOperationException>",
+                topK.top().get(0).message());
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> FailureTopK.create(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> FailureTopK.create(1, -1));
+    }
+
+    private static Exception rare(int i) {
+        return switch (i % 5) {
+            case 0 -> new ArithmeticException();
+            case 1 -> new ArrayStoreException();
+            case 2 -> new ClassCastException();
+            case 3 -> new NumberFormatException();
+            default -> new UnsupportedOperationException();
+        };
+    }
+
+    private static Exception first() {
+        return new IOException();
+    }
+
+    private static Exception second() {
+        return new IOException();
+    }
+}
@@ -0,0 +1,101 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketsStayWithinRelativeError() {
+        for (int i = 0; i < 100_000; i++) {
+            long value = ThreadLocalRandom.current().nextLong(1L << 42);
+            long estimate = LatencyHistogram.valueOf(LatencyHistogram.indexOf(value));
+            assertTrue(Math.abs(estimate - value) <= value / 64.0, value + " -> " + estimate);
+        }
+        for (long value = 0; value < 128; value++) {
+            assertEquals(value, LatencyHistogram.valueOf(LatencyHistogram.indexOf(value)));
+        }
+        assertEquals(0, LatencyHistogram.indexOf(-5));
+        assertEquals(
+                LatencyHistogram.indexOf((1L << 42) - 1), LatencyHistogram.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.count());
+        assertClose(500_000, snapshot.p50().toNanos());
+        assertClose(990_000, snapshot.p99().toNanos());
+        assertClose(999_000, snapshot.p999().toNanos());
+        assertClose(1_000_000, snapshot.max().toNanos());
+        assertClose(500_500, snapshot.mean().toNanos());
+        assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtQuantile(1.5));
+    }
+
+    @Test
+    void testSnapshotAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.record(200);
+
+        assertEquals(2, histogram.snapshotAndReset().count());
+        assertEquals(0, histogram.snapshot().count());
+        assertEquals(Duration.ZERO, histogram.snapshot().p99());
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(
+                    Thread.startVirtualThread(
+                            () -> {
+                                for (int i = 0; i < 10_000; i++) {
+                                    histogram.record(i);
+                                }
+                            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(80_000, histogram.snapshot().count());
+    }
+
+    @Test
+    void testTimedSeparatesOutcomes() {
+        Try<String> ok = Try.timed("histogram.test", () -> "ok");
+        Try<String> failed =
+                Try.timed(
+                        "histogram.test",
+                        () -> {
+                            throw new IOException();
+                        });
+
+        TryTimer timer = TryTimer.named("histogram.test");
+        assertEquals("ok", ok.get());
+        assertTrue(failed.isFailure());
+        assertEquals(1, timer.successes().snapshot().count());
+        assertEquals(1, timer.failures().snapshot().count());
+        assertSame(timer, TryTimer.all().get("histogram.test"));
+    }
+
+    private static void assertClose(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 64.0, expected + " vs " + actual);
+    }
+}
@@ -0,0 +1,140 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class LazyTryTest {
+
+    @Test
+    void testNothingRunsUntilNeeded() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyTry<Integer> lazy = Try.lazy(calls::incrementAndGet);
+        LazyTry<Integer> mapped = lazy.map(v -> v * 10).recover(e -> -1);
+
+        assertEquals(0, calls.get());
+        assertFalse(lazy.isEvaluated());
+        assertEquals("LazyTry(unevaluated)", lazy.toString());
+
+        assertEquals(10, mapped.get());
+        assertTrue(lazy.isEvaluated());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testOutcomeIsMemoized() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyTry<Integer> lazy = Try.lazy(calls::incrementAndGet);
+
+        Try<Integer> first = lazy.toTry();
+        assertSame(first, lazy.toTry());
+        assertEquals(1, lazy.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testFailureIsMemoized() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyTry<String> lazy =
+                Try.lazy(
+                        () -> {
+                            calls.incrementAndGet();
+                            throw new IOException("boom");
+                        });
+
+        assertTrue(lazy.isFailure());
+        assertInstanceOf(IOException.class, lazy.getCause());
+        assertEquals("fallback", lazy.recover(IOException.class, e -> "fallback").get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testConcurrentAccessRunsOnce() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        LazyTry<Integer> lazy =
+                Try.lazy(
+                        () -> {
+                            calls.incrementAndGet();
+                            release.await();
+                            return 42;
+                        });
+
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger sum = new AtomicInteger();
+        for (int i = 0; i < 16; i++) {
+            threads.add(Thread.startVirtualThread(() -> sum.addAndGet(lazy.get())));
+        }
+        Thread.sleep(50);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(16 * 42, sum.get());
+    }
+
+    @Test
+    void testInterruptedWaiterParksAndKeepsItsInterrupt() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LazyTry<String> lazy =
+                Try.lazy(
+                        () -> {
+                            running.countDown();
+                            release.await();
+                            return "done";
+                        });
+        Thread.ofPlatform().start(lazy::toTry);
+        running.await();
+
+        AtomicReference<Try<String>> seen = new AtomicReference<>();
+        AtomicBoolean stillInterrupted = new AtomicBoolean();
+        Thread waiter =
+                Thread.ofPlatform()
+                        .start(
+                                () -> {
+                                    Thread.currentThread().interrupt();
+                                    seen.set(lazy.toTry());
+                                    stillInterrupted.set(Thread.currentThread().isInterrupted());
+                                });
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long cpuBefore = threads.getThreadCpuTime(waiter.threadId());
+        Thread.sleep(100);
+        long spentWaiting = threads.getThreadCpuTime(waiter.threadId()) - cpuBefore;
+        release.countDown();
+        assertTrue(spentWaiting < TimeUnit.MILLISECONDS.toNanos(50), spentWaiting + " ns");
+        waiter.join();
+        assertEquals("done", seen.get().get());
+        assertTrue(stillInterrupted.get());
+    }
+
+    @Test
+    void testSelfReferenceFailsInsteadOfDeadlocking() {
+        AtomicReference<LazyTry<Integer>> self = new AtomicReference<>();
+        self.set(Try.lazy(() -> self.get().get() + 1));
+
+        Throwable cause = self.get().getCause();
+        assertInstanceOf(TryException.class, cause);
+        assertInstanceOf(IllegalStateException.class, cause.getCause());
+    }
+}
@@ -0,0 +1,71 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveTryTest {
+
+    @Test
+    void testIntTryMapAndFlatMap() {
+        IntTry result =
+                IntTry.ofInt(() -> Integer.parseInt("21"))
+                        .map(v -> v * 2)
+                        .flatMap(v -> IntTry.success(v + 1));
+        assertTrue(result.isSuccess());
+        assertEquals(43, result.get());
+    }
+
+    @Test
+    void testIntTryFailurePropagatesSameInstance() {
+        IntTry failure = IntTry.ofInt(() -> Integer.parseInt("x"));
+        assertTrue(failure.isFailure());
+        assertSame(failure, failure.map(v -> v + 1).flatMap(IntTry::success));
+        assertEquals(NumberFormatException.class, failure.getCause().getClass());
+        assertEquals(-1, failure.getOrElse(-1));
+        assertThrows(TryException.class, failure::get);
+        assertThrows(NumberFormatException.class, failure::getOrElseThrow);
+    }
+
+    @Test
+    void testIntTryRecover() {
+        IntTry failure = IntTry.ofInt(() -> 1 / 0);
+        assertEquals(0, failure.recover(t -> 0).get());
+        assertEquals(7, failure.recover(ArithmeticException.class, e -> 7).get());
+        assertSame(failure, failure.recover(IllegalStateException.class, e -> 7));
+    }
+
+    @Test
+    void testIntTryBridgesToTry() {
+        assertEquals(5, IntTry.success(5).boxed().get());
+        assertEquals("5", IntTry.success(5).mapToObj(Integer::toString).get());
+
+        IntTry failure = IntTry.ofInt(() -> 1 / 0);
+        assertSame(failure.getCause(), failure.boxed().getCause());
+        assertSame(failure.getCause(), failure.mapToObj(Integer::toString).getCause());
+    }
+
+    @Test
+    void testLongTry() {
+        LongTry result = LongTry.ofLong(() -> Long.parseLong("4000000000")).map(v -> v + 1);
+        assertEquals(4000000001L, result.get());
+        assertEquals(-1L, LongTry.ofLong(() -> Long.parseLong("x")).getOrElse(-1L));
+        assertEquals(4000000001L, result.boxed().get());
+    }
+
+    @Test
+    void testDoubleTry() {
+        DoubleTry result = DoubleTry.ofDouble(() -> Double.parseDouble("1.5")).map(v -> v * 2);
+        assertEquals(3.0, result.get());
+        assertEquals(
+                0.0,
+                DoubleTry.ofDouble(() -> Double.parseDouble("x"))
+                        .recover(NumberFormatException.class, e -> 0.0)
+                        .get());
+        assertEquals("3.0", result.mapToObj(Double::toString).get());
+    }
+}
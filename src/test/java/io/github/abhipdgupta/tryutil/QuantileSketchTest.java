@@ -0,0 +1,144 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class QuantileSketchTest {
+
+    @Test
+    void testQuantilesStayWithinRelativeAccuracy() {
+        Random random = new Random(42);
+        QuantileSketch sketch = QuantileSketch.create(0.01);
+        long[] values = new long[50_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextGaussian() * 2 + 13);
+            sketch.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertEquals(values.length, sketch.count());
+        for (double q : new double[] {0, 0.1, 0.5, 0.9, 0.99, 0.999, 1}) {
+            long exact = values[(int) Math.max(0, Math.ceil(q * values.length) - 1)];
+            long estimate = sketch.valueAtQuantile(q);
+            assertTrue(
+                    Math.abs(estimate - exact) <= exact * 0.01 + 1,
+                    q + ": " + exact + " vs " + estimate);
+        }
+        assertThrows(IllegalArgumentException.class, () -> sketch.valueAtQuantile(-0.1));
+    }
+
+    @Test
+    void testExtremeValues() {
+        QuantileSketch sketch = QuantileSketch.create(0.02);
+        sketch.record(-3);
+        sketch.record(0);
+        sketch.record(1);
+        sketch.record(Long.MAX_VALUE);
+
+        assertEquals(0, sketch.valueAtQuantile(0.5));
+        assertEquals(1, sketch.valueAtQuantile(0.75));
+        assertTrue(sketch.valueAtQuantile(1) >= Long.MAX_VALUE * 0.98);
+        assertTrue(sketch.toBytes().length < 40);
+    }
+
+    @Test
+    void testMergeEqualsRecordingEverything() {
+        Random random = new Random(7);
+        QuantileSketch left = QuantileSketch.create(0.01);
+        QuantileSketch right = QuantileSketch.create(0.01);
+        QuantileSketch both = QuantileSketch.create(0.01);
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong(1_000, 50_000_000);
+            (i % 3 == 0 ? left : right).record(value);
+            both.record(value);
+        }
+
+        assertArrayEquals(both.toBytes(), left.merge(right).toBytes());
+        assertEquals(both.p99(), left.p99());
+        assertThrows(IllegalArgumentException.class, () -> left.merge(QuantileSketch.create(0.02)));
+    }
+
+    @Test
+    void testSerializationRoundTrip() {
+        QuantileSketch sketch = QuantileSketch.create(0.005);
+        for (long value = 1; value < 1_000_000; value *= 3) {
+            sketch.record(value);
+        }
+        sketch.record(0);
+
+        QuantileSketch copy = QuantileSketch.fromBytes(sketch.toBytes());
+        assertEquals(sketch.count(), copy.count());
+        assertEquals(0.005, copy.relativeAccuracy());
+        assertEquals(sketch.p50(), copy.p50());
+        assertArrayEquals(sketch.toBytes(), copy.toBytes());
+        assertEquals(0, QuantileSketch.fromBytes(QuantileSketch.create(0.01).toBytes()).count());
+    }
+
+    @Test
+    void testMalformedBytesAreRejected() {
+        byte[] bytes = QuantileSketch.create(0.01).toBytes();
+        bytes[0] = 9;
+        assertThrows(IllegalArgumentException.class, () -> QuantileSketch.fromBytes(bytes));
+        assertThrows(
+                IllegalArgumentException.class, () -> QuantileSketch.fromBytes(new byte[] {1}));
+
+        QuantileSketch sketch = QuantileSketch.create(0.01);
+        sketch.record(1000);
+        byte[] valid = sketch.toBytes();
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> QuantileSketch.fromBytes(Arrays.copyOf(valid, valid.length - 1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> QuantileSketch.fromBytes(Arrays.copyOf(valid, valid.length + 1)));
+    }
+
+    @Test
+    void testRecorderMergesConcurrentThreads() throws InterruptedException {
+        QuantileRecorder recorder = QuantileRecorder.create(0.01);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(
+                    Thread.ofPlatform()
+                            .start(
+                                    () -> {
+                                        for (int i = 1; i <= 10_000; i++) {
+                                            recorder.record(i * 1000L);
+                                        }
+                                    }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        QuantileSketch sketch = recorder.snapshotAndReset();
+        assertEquals(80_000, sketch.count());
+        assertTrue(Math.abs(sketch.valueAtQuantile(0.5) - 5_000_000) <= 50_000);
+        assertEquals(0, recorder.snapshot().count());
+    }
+
+    @Test
+    void testRecorderTimesTry() {
+        QuantileRecorder recorder = QuantileRecorder.create(0.01);
+        Try<String> ok = recorder.time(() -> "ok");
+        Try<String> failed =
+                recorder.time(
+                        () -> {
+                            throw new IOException();
+                        });
+
+        assertEquals("ok", ok.get());
+        assertTrue(failed.isFailure());
+        assertEquals(2, recorder.snapshot().count());
+    }
+}
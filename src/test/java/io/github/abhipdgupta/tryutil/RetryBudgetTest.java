@@ -0,0 +1,112 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+    @Test
+    void testBudgetDrainsAndRefillsFromSuccesses() {
+        RetryBudget budget = RetryBudget.of(0.5, 2);
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+
+        budget.recordSuccess();
+        assertFalse(budget.tryAcquireRetry());
+        budget.recordSuccess();
+        assertTrue(budget.tryAcquireRetry());
+
+        assertEquals(3, budget.retriesAllowed());
+        assertEquals(2, budget.retriesDenied());
+    }
+
+    @Test
+    void testBalanceIsCapped() {
+        RetryBudget budget = RetryBudget.of(1, 3);
+        for (int i = 0; i < 10; i++) {
+            budget.recordSuccess();
+        }
+        assertEquals(3.0, budget.available());
+    }
+
+    @Test
+    void testHugeRatioDoesNotOverflow() {
+        RetryBudget budget = RetryBudget.of(1e300, 5);
+        assertTrue(budget.tryAcquireRetry());
+        budget.recordSuccess();
+        assertEquals(5.0, budget.available());
+        assertTrue(budget.tryAcquireRetry());
+    }
+
+    @Test
+    void testExhaustedBudgetReturnsFailureImmediately() {
+        RetryBudget budget = RetryBudget.of(0.1, 1);
+        RetryPolicy policy = RetryPolicy.fixed(5, Duration.ZERO).withBudget(budget);
+        AtomicInteger calls = new AtomicInteger();
+        ThrowingSupplier<String> failing =
+                () -> {
+                    calls.incrementAndGet();
+                    throw new IOException("down");
+                };
+
+        assertTrue(Try.retry(failing, policy).isFailure());
+        assertEquals(2, calls.get());
+
+        calls.set(0);
+        assertTrue(Try.retry(failing, policy).isFailure());
+        assertEquals(1, calls.get());
+        assertEquals(1, budget.retriesAllowed());
+        assertEquals(2, budget.retriesDenied());
+    }
+
+    @Test
+    void testSuccessfulRetriesPayIntoBudget() {
+        RetryBudget budget = RetryBudget.of(0.25, 4);
+        RetryPolicy policy = RetryPolicy.fixed(2, Duration.ZERO).withBudget(budget);
+        budget.tryAcquireRetry();
+
+        Try.retry(() -> "ok", policy);
+        TryFuture.retry(() -> "ok", policy).join();
+        assertEquals(3.5, budget.available());
+    }
+
+    @Test
+    void testConcurrentAcquireNeverOverdraws() throws InterruptedException {
+        RetryBudget budget = RetryBudget.of(0, 100);
+        AtomicInteger granted = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(
+                    Thread.startVirtualThread(
+                            () -> {
+                                for (int i = 0; i < 50; i++) {
+                                    if (budget.tryAcquireRetry()) granted.incrementAndGet();
+                                }
+                            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100, granted.get());
+        assertEquals(100, budget.retriesAllowed());
+        assertEquals(300, budget.retriesDenied());
+    }
+
+    @Test
+    void testInvalidBudgets() {
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.of(-0.1, 10));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.of(Double.NaN, 10));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.of(0.1, 0));
+    }
+}
@@ -0,0 +1,187 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class RetryTest {
+
+    private static final RetryPolicy IMMEDIATE = RetryPolicy.fixed(3, Duration.ZERO);
+
+    private static ThrowingSupplier<String> failingTimes(int failures, AtomicInteger calls) {
+        return () -> {
+            if (calls.incrementAndGet() <= failures) throw new IOException("attempt " + calls);
+            return "ok";
+        };
+    }
+
+    @Test
+    void testRetriesUntilSuccess() {
+        AtomicInteger calls = new AtomicInteger();
+        Try<String> result = Try.retry(failingTimes(2, calls), IMMEDIATE);
+        assertEquals("ok", result.get());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testReturnsLastFailureAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        Try<String> result = Try.retry(failingTimes(5, calls), IMMEDIATE);
+        assertEquals("attempt 3", result.getCause().getMessage());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testRetryOnAndAbortOnFilters() {
+        RetryPolicy policy =
+                IMMEDIATE.retryOn(IOException.class).abortOn(FileNotFoundException.class);
+        assertTrue(policy.isRetryable(new IOException()));
+        assertFalse(policy.isRetryable(new FileNotFoundException()));
+        assertFalse(policy.isRetryable(new IllegalStateException()));
+        assertFalse(IMMEDIATE.isRetryable(new InterruptedException()));
+
+        AtomicInteger calls = new AtomicInteger();
+        Try<String> result =
+                Try.retry(
+                        () -> {
+                            calls.incrementAndGet();
+                            throw new FileNotFoundException();
+                        },
+                        policy);
+        assertInstanceOf(FileNotFoundException.class, result.getCause());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testBackoffDelays() {
+        long start = System.nanoTime();
+        Throwable cause = new IOException();
+        RetryPolicy exponential =
+                RetryPolicy.exponential(10, Duration.ofNanos(100), Duration.ofNanos(350));
+        long first = exponential.nextDelayNanos(1, 0, start, cause);
+        long second = exponential.nextDelayNanos(2, first, start, cause);
+        long third = exponential.nextDelayNanos(3, second, start, cause);
+        long fourth = exponential.nextDelayNanos(4, third, start, cause);
+        assertEquals(100, first);
+        assertEquals(200, second);
+        assertEquals(350, third);
+        assertEquals(350, fourth);
+        assertEquals(-1, exponential.nextDelayNanos(10, fourth, start, cause));
+
+        RetryPolicy jitter =
+                RetryPolicy.decorrelatedJitter(100, Duration.ofNanos(100), Duration.ofNanos(1000));
+        long delay = 0;
+        for (int attempt = 1; attempt < 100; attempt++) {
+            long next = jitter.nextDelayNanos(attempt, delay, start, cause);
+            assertTrue(next >= 100 && next <= Math.min(1000, Math.max(delay, 100) * 3), "" + next);
+            delay = next;
+        }
+    }
+
+    @Test
+    void testDeadlineStopsRetrying() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy policy =
+                RetryPolicy.fixed(100, Duration.ofMillis(20)).withDeadline(Duration.ofMillis(50));
+        Try<String> result = Try.retry(failingTimes(100, calls), policy);
+        assertTrue(result.isFailure());
+        assertTrue(calls.get() >= 2 && calls.get() <= 3, "calls: " + calls.get());
+    }
+
+    @Test
+    void testInterruptDuringBackoff() throws InterruptedException {
+        AtomicReference<Try<String>> result = new AtomicReference<>();
+        AtomicReference<Boolean> interrupted = new AtomicReference<>();
+        Thread thread =
+                Thread.startVirtualThread(
+                        () -> {
+                            result.set(
+                                    Try.retry(
+                                            failingTimes(100, new AtomicInteger()),
+                                            RetryPolicy.fixed(5, Duration.ofMinutes(1))));
+                            interrupted.set(Thread.currentThread().isInterrupted());
+                        });
+        Thread.sleep(50);
+        thread.interrupt();
+        thread.join();
+
+        Throwable cause = result.get().getCause();
+        assertInstanceOf(InterruptedException.class, cause);
+        assertInstanceOf(IOException.class, cause.getSuppressed()[0]);
+        assertTrue(interrupted.get());
+    }
+
+    @Test
+    void testAsyncRetry() {
+        AtomicInteger calls = new AtomicInteger();
+        TryFuture<String> future =
+                TryFuture.retry(
+                        failingTimes(2, calls), RetryPolicy.fixed(3, Duration.ofMillis(10)));
+        assertEquals("ok", future.join().get());
+        assertEquals(3, calls.get());
+
+        IOException last = new IOException("last");
+        Try<String> failed =
+                TryFuture.<String>retry(
+                                () -> {
+                                    throw last;
+                                },
+                                IMMEDIATE)
+                        .join();
+        assertSame(last, failed.getCause());
+    }
+
+    @Test
+    void testRetryIfCondition() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy policy = IMMEDIATE.retryIf(e -> !"fatal".equals(e.getMessage()));
+        Try<String> result =
+                Try.retry(
+                        () -> {
+                            throw new IOException(calls.incrementAndGet() < 2 ? "flaky" : "fatal");
+                        },
+                        policy);
+        assertEquals("fatal", result.getCause().getMessage());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testThrowingConditionCompletesAsyncRetry() {
+        IllegalStateException broken = new IllegalStateException("broken predicate");
+        RetryPolicy policy =
+                IMMEDIATE.retryIf(
+                        e -> {
+                            throw broken;
+                        });
+        ThrowingSupplier<String> failing =
+                () -> {
+                    throw new IOException("down");
+                };
+
+        Try<String> async = TryFuture.retry(failing, policy).join(Duration.ofSeconds(5));
+        assertSame(broken, async.getCause());
+        assertSame(broken, Try.retry(failing, policy).getCause());
+    }
+
+    @Test
+    void testInvalidPolicies() {
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.fixed(0, Duration.ZERO));
+        assertThrows(
+                IllegalArgumentException.class, () -> RetryPolicy.fixed(1, Duration.ofMillis(-1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RetryPolicy.exponential(3, Duration.ofSeconds(2), Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> IMMEDIATE.withDeadline(Duration.ZERO));
+    }
+}
@@ -0,0 +1,199 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TraversalsTest {
+
+    @Test
+    void testSequence() {
+        assertEquals(
+                List.of(1, 2, 3),
+                Try.sequence(List.of(Try.success(1), Try.success(2), Try.success(3))).get());
+
+        Try<Integer> failure = Try.of(() -> 1 / 0);
+        Try<Integer> later = Try.failure(new IllegalStateException());
+        assertSame(failure, Try.sequence(List.of(Try.success(1), failure, later)));
+    }
+
+    @Test
+    void testTraverseStopsAtFirstFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        Try<List<Integer>> result =
+                Try.traverse(
+                        List.of("1", "x", "3"),
+                        s -> {
+                            calls.incrementAndGet();
+                            return Try.of(() -> Integer.parseInt(s));
+                        });
+        assertEquals(NumberFormatException.class, result.getCause().getClass());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testTraverseCollectionAndIterable() {
+        assertEquals(
+                List.of(1, 2, 3),
+                Try.traverse(List.of("1", "2", "3"), TraversalsTest::parse).get());
+
+        Iterable<String> iterable = () -> List.of("4", "5").iterator();
+        assertEquals(List.of(4, 5), Try.traverse(iterable, TraversalsTest::parse).get());
+
+        IllegalStateException exception = new IllegalStateException();
+        assertSame(
+                exception,
+                Try.traverse(
+                                List.of(1),
+                                i -> {
+                                    throw exception;
+                                })
+                        .getCause());
+    }
+
+    private static Try<Integer> parse(String s) {
+        return TryParse.parseInt(s).boxed();
+    }
+
+    @Test
+    void testTraverseParallelKeepsInputOrder() {
+        List<Integer> input = IntStream.range(0, 500).boxed().toList();
+        Try<List<String>> result = Try.traverseParallel(input, i -> Try.success("#" + i), 16);
+        assertEquals(input.stream().map(i -> "#" + i).toList(), result.get());
+    }
+
+    @Test
+    void testTraverseParallelBoundsConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> input = IntStream.range(0, 100).boxed().toList();
+        Try<List<Integer>> result =
+                Try.traverseParallel(
+                        input,
+                        i ->
+                                Try.ofChecked(
+                                        () -> {
+                                            maxRunning.accumulateAndGet(
+                                                    running.incrementAndGet(), Math::max);
+                                            Thread.sleep(1);
+                                            running.decrementAndGet();
+                                            return i;
+                                        }),
+                        4);
+        assertTrue(result.isSuccess());
+        assertTrue(maxRunning.get() <= 4, "max running was " + maxRunning.get());
+    }
+
+    @Test
+    void testTraverseParallelShortCircuitsAndInterrupts() throws InterruptedException {
+        IOException boom = new IOException("boom");
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Try<List<Integer>> result =
+                Try.traverseParallel(
+                        List.of(0, 1),
+                        i ->
+                                Try.ofChecked(
+                                        () -> {
+                                            if (i == 1) throw boom;
+                                            try {
+                                                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                                            } catch (InterruptedException e) {
+                                                interrupted.countDown();
+                                                throw e;
+                                            }
+                                            return i;
+                                        }),
+                        2);
+        assertSame(boom, result.getCause());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testNullMapperResultIsAFailure() {
+        assertTrue(
+                Try.<Integer, Integer>traverse(List.of(1, 2), i -> null).getCause()
+                        instanceof NullPointerException);
+        assertTrue(
+                Try.<Integer, Integer>traverseParallel(List.of(1, 2), i -> null, 2).getCause()
+                        instanceof NullPointerException);
+    }
+
+    @Test
+    void testInterruptedCallerWaitsForWorkers() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger runningAtReturn = new AtomicInteger(-1);
+        AtomicReference<Try<List<Integer>>> outcome = new AtomicReference<>();
+        AtomicBoolean reinterrupted = new AtomicBoolean();
+        Thread caller =
+                Thread.ofVirtual()
+                        .start(
+                                () -> {
+                                    Try<List<Integer>> result =
+                                            Try.traverseParallel(
+                                                    List.of(1),
+                                                    i -> {
+                                                        running.incrementAndGet();
+                                                        started.countDown();
+                                                        try {
+                                                            Thread.sleep(
+                                                                    TimeUnit.MINUTES.toMillis(1));
+                                                        } catch (InterruptedException e) {
+                                                            // keep running a little longer
+                                                            long end =
+                                                                    System.nanoTime() + 50_000_000;
+                                                            while (System.nanoTime() < end) {
+                                                                Thread.onSpinWait();
+                                                            }
+                                                        } finally {
+                                                            running.decrementAndGet();
+                                                        }
+                                                        return Try.success(i);
+                                                    },
+                                                    1);
+                                    runningAtReturn.set(running.get());
+                                    outcome.set(result);
+                                    reinterrupted.set(Thread.currentThread().isInterrupted());
+                                });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        caller.interrupt();
+        caller.join();
+        assertEquals(0, runningAtReturn.get());
+        assertTrue(outcome.get().getCause() instanceof InterruptedException);
+        assertTrue(reinterrupted.get());
+    }
+
+    @Test
+    void testTraverseParallelEdgeCases() {
+        assertEquals(List.of(), Try.traverseParallel(List.<Integer>of(), Try::success, 1).get());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Try.traverseParallel(List.of(1), Try::success, 0));
+    }
+
+    @Test
+    void testSequenceParallel() {
+        List<ThrowingSupplier<Integer>> suppliers = List.of(() -> 1, () -> 2, () -> 3);
+        assertEquals(List.of(1, 2, 3), Try.sequenceParallel(suppliers).get());
+
+        List<ThrowingSupplier<Integer>> failing =
+                List.of(
+                        () -> 1,
+                        () -> {
+                            throw new IOException("boom");
+                        });
+        assertEquals(IOException.class, Try.sequenceParallel(failing, 1).getCause().getClass());
+    }
+}
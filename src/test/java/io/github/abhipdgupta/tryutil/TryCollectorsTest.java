@@ -0,0 +1,81 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class TryCollectorsTest {
+
+    private static Try<Integer> parse(int i) {
+        return i % 3 == 0 ? Try.failure(new IOException("#" + i)) : Try.success(i);
+    }
+
+    @Test
+    void testPartitioning() {
+        TryCollectors.Partition<Integer> partition =
+                IntStream.range(0, 7)
+                        .mapToObj(TryCollectorsTest::parse)
+                        .collect(TryCollectors.partitioning());
+        assertEquals(List.of(1, 2, 4, 5), partition.successes());
+        assertEquals(
+                List.of("#0", "#3", "#6"),
+                partition.failures().stream().map(Throwable::getMessage).toList());
+    }
+
+    @Test
+    void testPartitioningParallelKeepsEncounterOrder() {
+        TryCollectors.Partition<Integer> partition =
+                IntStream.range(0, 10_000)
+                        .parallel()
+                        .mapToObj(TryCollectorsTest::parse)
+                        .collect(TryCollectors.partitioning());
+        assertEquals(
+                IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().toList(),
+                partition.successes());
+        assertEquals(3334, partition.failures().size());
+    }
+
+    @Test
+    void testSuccessesOnly() {
+        assertEquals(
+                List.of(1, 2, 4),
+                IntStream.range(0, 5)
+                        .mapToObj(TryCollectorsTest::parse)
+                        .collect(TryCollectors.successesOnly()));
+    }
+
+    @Test
+    void testFirstFailureOrList() {
+        Try<List<Integer>> failed =
+                IntStream.range(1, 10_000)
+                        .parallel()
+                        .mapToObj(TryCollectorsTest::parse)
+                        .collect(TryCollectors.firstFailureOrList());
+        assertEquals("#3", failed.getCause().getMessage());
+
+        Try<List<Integer>> all =
+                Stream.of(Try.success(1), Try.success(2))
+                        .collect(TryCollectors.firstFailureOrList());
+        assertEquals(List.of(1, 2), all.get());
+    }
+
+    @Test
+    void testGroupingByCauseClass() {
+        IllegalStateException illegalState = new IllegalStateException();
+        Map<Class<? extends Throwable>, List<Throwable>> groups =
+                Stream.concat(
+                                IntStream.range(0, 7).mapToObj(TryCollectorsTest::parse),
+                                Stream.of(Try.<Integer>failure(illegalState)))
+                        .collect(TryCollectors.groupingByCauseClass());
+        assertEquals(2, groups.size());
+        assertEquals(3, groups.get(IOException.class).size());
+        assertSame(illegalState, groups.get(IllegalStateException.class).get(0));
+    }
+}
@@ -0,0 +1,112 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+class TryEventsTest {
+
+    private static final String PREFIX = "io.github.abhipdgupta.tryutil.";
+
+    @Test
+    void testEventsAreRecorded() throws IOException, InterruptedException {
+        Path file = Files.createTempFile("try-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "TryFailure");
+            recording.enable(PREFIX + "TryRecovered");
+            recording.enable(PREFIX + "TrySlowComputation").withThreshold(Duration.ofMillis(10));
+            recording.start();
+
+            Try.of(() -> Integer.parseInt("x")).recover(e -> 0);
+            Try.ofChecked(
+                    () -> {
+                        Thread.sleep(30);
+                        return "slow";
+                    });
+            Try.of(() -> "fast");
+            TryPipeline.<String>start().map(Integer::parseInt).recover(e -> 0).apply("y");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events =
+                RecordingFile.readAllEvents(file).stream()
+                        .filter(e -> e.getEventType().getName().startsWith(PREFIX))
+                        .toList();
+        Files.delete(file);
+
+        RecordedEvent failure = find(events, "TryFailure");
+        assertEquals(
+                NumberFormatException.class.getName(),
+                failure.getClass("exceptionClass").getName());
+        assertEquals("For input string: \"x\"", failure.getString("message"));
+        assertTrue(
+                failure.getStackTrace().getFrames().stream()
+                        .anyMatch(
+                                f ->
+                                        f.getMethod()
+                                                .getType()
+                                                .getName()
+                                                .equals(getClass().getName())));
+
+        assertEquals(
+                NumberFormatException.class.getName(),
+                find(events, "TryRecovered").getClass("exceptionClass").getName());
+        assertEquals(
+                2,
+                events.stream()
+                        .filter(e -> e.getEventType().getName().endsWith("TryRecovered"))
+                        .count());
+
+        RecordedEvent slow = find(events, "TrySlowComputation");
+        assertTrue(slow.getDuration().toMillis() >= 10);
+        assertEquals(false, slow.getBoolean("failed"));
+        assertEquals(
+                1,
+                events.stream()
+                        .filter(e -> e.getEventType().getName().endsWith("TrySlowComputation"))
+                        .count());
+    }
+
+    @Test
+    void testThrowingGetMessageStillYieldsFailure() {
+        RuntimeException hostile =
+                new RuntimeException() {
+                    @Override
+                    public String getMessage() {
+                        throw new IllegalStateException("no message");
+                    }
+                };
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "TryFailure");
+            recording.start();
+
+            Try<String> result =
+                    Try.of(
+                            () -> {
+                                throw hostile;
+                            });
+
+            assertSame(hostile, result.getCause());
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(PREFIX + name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no " + name + " event in " + events));
+    }
+}
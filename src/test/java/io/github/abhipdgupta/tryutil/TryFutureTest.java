@@ -0,0 +1,136 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class TryFutureTest {
+
+    @Test
+    void testOfAsyncRunsOnVirtualThread() {
+        Try<Boolean> result = TryFuture.ofAsync(() -> Thread.currentThread().isVirtual()).join();
+        assertEquals(true, result.get());
+    }
+
+    @Test
+    void testFailureIsNotWrapped() {
+        IOException exception = new IOException("boom");
+        Try<Integer> result =
+                TryFuture.<Integer>ofAsync(
+                                () -> {
+                                    throw exception;
+                                })
+                        .map(v -> v + 1)
+                        .join();
+        assertSame(exception, result.getCause());
+    }
+
+    @Test
+    void testMapFlatMapAndRecover() {
+        Try<Integer> result =
+                TryFuture.ofAsync(() -> 20)
+                        .map(v -> v + 1)
+                        .flatMap(v -> TryFuture.ofAsync(() -> v * 2))
+                        .join();
+        assertEquals(42, result.get());
+
+        Try<Integer> recovered =
+                TryFuture.ofAsync(() -> 1 / 0)
+                        .recover(IllegalStateException.class, e -> -1)
+                        .recover(ArithmeticException.class, e -> 0)
+                        .join();
+        assertEquals(0, recovered.get());
+    }
+
+    @Test
+    void testFlatMapMapperThrowing() {
+        IllegalStateException exception = new IllegalStateException();
+        Try<Integer> result =
+                TryFuture.completed(Try.success(1))
+                        .<Integer>flatMap(
+                                v -> {
+                                    throw exception;
+                                })
+                        .join();
+        assertSame(exception, result.getCause());
+    }
+
+    @Test
+    void testRejectedExecution() {
+        Try<Integer> result =
+                TryFuture.ofAsync(
+                                () -> 1,
+                                task -> {
+                                    throw new RejectedExecutionException();
+                                })
+                        .join();
+        assertInstanceOf(RejectedExecutionException.class, result.getCause());
+    }
+
+    @Test
+    void testFromCompletionStageUnwraps() {
+        IOException exception = new IOException("boom");
+        CompletableFuture<Integer> failed =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            throw new RuntimeException(exception);
+                        });
+        Try<Integer> result = TryFuture.fromCompletionStage(failed.thenApply(v -> v)).join();
+        assertInstanceOf(RuntimeException.class, result.getCause());
+        assertSame(exception, result.getCause().getCause());
+
+        assertEquals(
+                5,
+                TryFuture.fromCompletionStage(CompletableFuture.completedFuture(5)).join().get());
+    }
+
+    @Test
+    void testJoinWithTimeout() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        TryFuture<Integer> slow =
+                TryFuture.ofAsync(
+                        () -> {
+                            release.await();
+                            return 1;
+                        });
+        assertInstanceOf(TimeoutException.class, slow.join(Duration.ofMillis(20)).getCause());
+        release.countDown();
+        assertEquals(1, slow.join(Duration.ofSeconds(5)).get());
+    }
+
+    @Test
+    void testToCompletableFuture() {
+        assertEquals(3, TryFuture.ofAsync(() -> 3).toCompletableFuture().join());
+
+        CompletableFuture<Integer> failed = TryFuture.ofAsync(() -> 1 / 0).toCompletableFuture();
+        ExecutionException exception = assertThrows(ExecutionException.class, failed::get);
+        assertInstanceOf(ArithmeticException.class, exception.getCause());
+    }
+
+    @Test
+    void testOnComplete() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicBoolean success = new AtomicBoolean();
+        TryFuture.ofAsync(() -> 1)
+                .onComplete(
+                        result -> {
+                            success.set(result.isSuccess());
+                            done.countDown();
+                        });
+        done.await();
+        assertTrue(success.get());
+    }
+}
@@ -0,0 +1,34 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/** Runs with the default settings, where {@code tryutil.metrics} is not set. */
+class TryMetricsDisabledTest {
+
+    @Test
+    void testDisabledByDefault() {
+        assertFalse(TryMetrics.isEnabled());
+    }
+
+    @Test
+    void testNothingIsRecorded() {
+        TryMetrics.Site site = TryMetrics.site("metrics.disabled.site");
+        site.of(() -> 1);
+        site.ofChecked(
+                () -> {
+                    throw new IOException();
+                });
+        site.record(Try.failure(new IllegalStateException()));
+        Try.of(() -> Integer.parseInt("x")).recover(e -> 0);
+
+        TryMetrics.Snapshot empty = new TryMetrics.Snapshot(0, 0, 0, Map.of());
+        assertEquals(empty, site.snapshot());
+        assertEquals(empty, TryMetrics.global().snapshot());
+    }
+}
@@ -0,0 +1,88 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs in its own surefire execution with {@code -Dtryutil.metrics=true}, so no other test's
+ * threads touch the global counters; see {@link TryMetricsDisabledTest} for the default.
+ */
+class TryMetricsTest {
+
+    @Test
+    void testEnabledForTests() {
+        assertTrue(TryMetrics.isEnabled());
+    }
+
+    @Test
+    void testSiteCountsOutcomesByClass() {
+        TryMetrics.Site site = TryMetrics.site("metrics.test.site");
+        site.of(() -> 1);
+        site.of(() -> 1 / 0);
+        site.ofChecked(
+                () -> {
+                    throw new IOException();
+                });
+        site.ofChecked(
+                () -> {
+                    throw new IOException();
+                });
+
+        TryMetrics.Snapshot snapshot = site.snapshot();
+        assertEquals(1, snapshot.successes());
+        assertEquals(3, snapshot.failures());
+        assertEquals(
+                Map.of(ArithmeticException.class.getName(), 1L, IOException.class.getName(), 2L),
+                snapshot.failuresByClass());
+        assertSame(site, TryMetrics.site("metrics.test.site"));
+        assertEquals(snapshot, TryMetrics.sites().get("metrics.test.site"));
+
+        site.reset();
+        assertEquals(new TryMetrics.Snapshot(0, 0, 0, Map.of()), site.snapshot());
+    }
+
+    @Test
+    void testGlobalCountsFactoriesAndRecoveries() {
+        TryMetrics.Snapshot before = TryMetrics.global().snapshot();
+        Try.of(() -> "ok");
+        Try.of(() -> Integer.parseInt("x")).recover(NumberFormatException.class, e -> 0);
+        Try.ofChecked(() -> "ok").recover(e -> "unused");
+
+        TryMetrics.Snapshot after = TryMetrics.global().snapshot();
+        assertEquals(2, after.successes() - before.successes());
+        assertEquals(1, after.failures() - before.failures());
+        assertEquals(1, after.recoveries() - before.recoveries());
+    }
+
+    @Test
+    void testRecordingFromManyThreads() throws InterruptedException {
+        TryMetrics.Site site = TryMetrics.site("metrics.test.concurrent");
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(
+                    Thread.startVirtualThread(
+                            () -> {
+                                for (int i = 0; i < 1000; i++) {
+                                    site.record(
+                                            i % 2 == 0
+                                                    ? Try.success(i)
+                                                    : Try.failure(new IllegalStateException()));
+                                }
+                            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        TryMetrics.Snapshot snapshot = site.snapshot();
+        assertEquals(4000, snapshot.successes());
+        assertEquals(4000, snapshot.failuresByClass().get(IllegalStateException.class.getName()));
+    }
+}
@@ -0,0 +1,107 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TryParseTest {
+
+    @Test
+    void testParseIntMatchesJdk() {
+        for (String s :
+                new String[] {"0", "-0", "+7", "123", "-2147483648", "2147483647", "007", "١٢"}) {
+            assertEquals(Integer.parseInt(s), TryParse.parseInt(s).get(), s);
+        }
+        for (String s :
+                new String[] {"", "-", "+", "2147483648", "-2147483649", "1a", " 1", "1.0"}) {
+            IntTry result = TryParse.parseInt(s);
+            assertTrue(result.isFailure(), s);
+            assertInstanceOf(NumberFormatException.class, result.getCause());
+            assertEquals("For input string: \"" + s + "\"", result.getCause().getMessage());
+            assertEquals(0, result.getCause().getStackTrace().length);
+        }
+        assertTrue(TryParse.parseInt(null).isFailure());
+    }
+
+    @Test
+    void testParseLongMatchesJdk() {
+        for (String s : new String[] {"0", "-9223372036854775808", "9223372036854775807", "+42"}) {
+            assertEquals(Long.parseLong(s), TryParse.parseLong(s).get(), s);
+        }
+        for (String s : new String[] {"", "9223372036854775808", "-9223372036854775809", "x"}) {
+            assertInstanceOf(NumberFormatException.class, TryParse.parseLong(s).getCause(), s);
+        }
+    }
+
+    @Test
+    void testParseDoubleMatchesJdk() {
+        for (String s :
+                new String[] {
+                    "0",
+                    "1.5",
+                    "-1.5e10",
+                    ".5",
+                    "5.",
+                    "1E-3",
+                    " 2.5 ",
+                    "NaN",
+                    "-Infinity",
+                    "1f",
+                    "2D",
+                    "0x1p3"
+                }) {
+            assertEquals(Double.parseDouble(s), TryParse.parseDouble(s).get(), s);
+        }
+        for (String s : new String[] {"", ".", "e5", "1e", "1.5.2", "Inf", "nan", "1x", "--1"}) {
+            DoubleTry result = TryParse.parseDouble(s);
+            assertTrue(result.isFailure(), s);
+            assertInstanceOf(NumberFormatException.class, result.getCause());
+        }
+    }
+
+    @Test
+    void testParseUUID() {
+        UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, TryParse.parseUUID(uuid.toString()).get());
+        assertEquals(uuid, TryParse.parseUUID(uuid.toString().toUpperCase()).get());
+
+        for (String s :
+                new String[] {
+                    "",
+                    "not-a-uuid",
+                    "123e4567-e89b-12d3-a456-42661417400g",
+                    "123e4567e89b-12d3-a456-4266141740000"
+                }) {
+            assertInstanceOf(IllegalArgumentException.class, TryParse.parseUUID(s).getCause(), s);
+        }
+    }
+
+    @Test
+    void testParseInstant() {
+        for (String s :
+                new String[] {
+                    "2024-01-15T10:15:30Z", "2024-01-15T10:15:30.123456789Z", "1970-01-01T00:00:00Z"
+                }) {
+            assertEquals(Instant.parse(s), TryParse.parseInstant(s).get(), s);
+        }
+        for (String s : new String[] {"", "2024-02-30T10:15:30Z", "2024-01-15", "yesterday"}) {
+            assertInstanceOf(DateTimeParseException.class, TryParse.parseInstant(s).getCause(), s);
+        }
+    }
+
+    @Test
+    void testParseInstantOutOfRange() {
+        String s = "-1000000001-01-01T00:00:00Z";
+        assertThrows(DateTimeParseException.class, () -> Instant.parse(s));
+        Throwable cause = TryParse.parseInstant(s).getCause();
+        assertInstanceOf(DateTimeParseException.class, cause);
+        assertEquals(0, cause.getStackTrace().length);
+    }
+}
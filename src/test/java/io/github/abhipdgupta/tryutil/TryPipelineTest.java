@@ -0,0 +1,123 @@
+/* (C)2025 */
+package io.github.abhipdgupta.tryutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TryPipelineTest {
+
+    private static final TryPipeline<String, Integer> PARSE =
+            TryPipeline.<String>start()
+                    .map(String::trim)
+                    .map(Integer::parseInt)
+                    .flatMap(v -> v < 0 ? Try.failure(new IOException("negative")) : Try.success(v))
+                    .map(v -> v * 2);
+
+    @Test
+    void testAppliesStagesInOrder() {
+        assertEquals(84, PARSE.apply(" 42 ").get());
+        assertEquals(4, PARSE.size());
+    }
+
+    @Test
+    void testMatchesEquivalentChain() {
+        for (String input : List.of("1", " 7", "-3", "x")) {
+            Try<Integer> chained =
+                    Try.success(input)
+                            .map(String::trim)
+                            .map(Integer::parseInt)
+                            .flatMap(
+                                    v ->
+                                            v < 0
+                                                    ? Try.failure(new IOException("negative"))
+                                                    : Try.success(v))
+                            .map(v -> v * 2);
+            Try<Integer> fused = PARSE.apply(input);
+            assertEquals(chained.isSuccess(), fused.isSuccess());
+            if (fused.isSuccess()) {
+                assertEquals(chained.get(), fused.get());
+            } else {
+                assertEquals(chained.getCause().getClass(), fused.getCause().getClass());
+            }
+        }
+    }
+
+    @Test
+    void testFailureSkipsToMatchingRecover() {
+        TryPipeline<String, Integer> pipeline =
+                PARSE.recover(IOException.class, e -> 0).recover(e -> -1).map(v -> v + 1);
+
+        assertEquals(1, pipeline.apply("-3").get());
+        assertEquals(0, pipeline.apply("x").get());
+        assertEquals(85, pipeline.apply("42").get());
+    }
+
+    @Test
+    void testUnrecoveredFailureIsReturned() {
+        Try<Integer> result = PARSE.recover(IOException.class, e -> 0).apply("x");
+        assertInstanceOf(NumberFormatException.class, result.getCause());
+    }
+
+    @Test
+    void testRecoverDoesNotCatchLaterStages() {
+        TryPipeline<String, Integer> pipeline =
+                PARSE.recover(e -> -1)
+                        .map(
+                                v -> {
+                                    if (v > 100) throw new IllegalStateException("too large");
+                                    return v;
+                                });
+        assertEquals(-1, pipeline.apply("x").get());
+        assertInstanceOf(IllegalStateException.class, pipeline.apply("99").getCause());
+    }
+
+    @Test
+    void testErrorInMapStagePropagatesLikeChain() {
+        TryPipeline<String, String> pipeline =
+                TryPipeline.<String>start()
+                        .map(
+                                s -> {
+                                    throw new AssertionError(s);
+                                });
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        Try.success("a")
+                                .map(
+                                        s -> {
+                                            throw new AssertionError(s);
+                                        }));
+        assertThrows(AssertionError.class, () -> pipeline.apply("a"));
+    }
+
+    @Test
+    void testFlatMapFailureKeepsCause() {
+        IllegalStateException cause = new IllegalStateException("upstream");
+        TryPipeline<String, String> pipeline =
+                TryPipeline.<String>start().flatMap(s -> Try.<String>failure(cause));
+        assertSame(cause, pipeline.apply("a").getCause());
+        assertSame(cause, Try.success("a").flatMap(pipeline).getCause());
+    }
+
+    @Test
+    void testApplyToFailureRunsOnlyRecoverStages() {
+        IllegalStateException cause = new IllegalStateException("upstream");
+        assertSame(cause, PARSE.applyTo(Try.failure(cause)).getCause());
+        assertEquals(-1, PARSE.recover(e -> -1).applyTo(Try.failure(cause)).get());
+    }
+
+    @Test
+    void testBuilderDoesNotModifyOriginal() {
+        TryPipeline<String, Integer> longer = PARSE.map(v -> v + 1);
+        assertEquals(5, longer.size());
+        assertEquals(4, PARSE.size());
+        assertTrue(TryPipeline.<String>start().apply("a").isSuccess());
+    }
+}
@@ -4,12 +4,19 @@ package io.github.abhipdgupta.tryutil;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 class TryTest {
@@ -77,6 +84,185 @@ class TryTest {
         assertEquals(exception, mapped.getCause());
     }
 
+    @Test
+    void testFailurePropagatesSameInstance() {
+        Try<Integer> failure = Try.of(() -> 1 / 0);
+        Try<String> chained = failure.map(i -> i + 1).flatMap(i -> Try.of(() -> "x" + i));
+        assertSame(failure, chained);
+    }
+
+    @Test
+    void testFailureFactoryWithStacklessException() {
+        TryException exception = TryException.stackless("cache miss");
+        Try<Integer> failure = Try.failure(exception);
+        assertTrue(failure.isFailure());
+        assertSame(exception, failure.getCause());
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("cache miss", exception.getMessage());
+    }
+
+    @Test
+    void testRunAndUnit() {
+        AtomicBoolean called = new AtomicBoolean(false);
+        Try<Void> ran = Try.run(() -> called.set(true));
+        assertTrue(called.get());
+        assertSame(Try.unit(), ran);
+        assertSame(Try.unit(), Try.run(() -> {}));
+
+        Try<Void> failed =
+                Try.run(
+                        () -> {
+                            throw new IOException("boom");
+                        });
+        assertEquals(IOException.class, failed.getCause().getClass());
+    }
+
+    @Test
+    void testCommonSuccessesAreShared() {
+        assertSame(Try.of(() -> Boolean.TRUE), Try.success(true));
+        assertSame(Try.of(() -> null), Try.success(null));
+        assertSame(Try.of(() -> 42), Try.success(42).map(i -> i));
+        assertSame(Try.of(() -> 7L), Try.success(7L));
+        assertSame(Try.of(() -> ""), Try.success(""));
+        assertSame(Try.success(0), Try.of(() -> 1 / 0).recover(t -> 0));
+
+        assertNotSame(Try.success(1000), Try.success(1000));
+    }
+
+    @SuppressWarnings({"deprecation", "removal"})
+    @Test
+    void testSharedSuccessPreservesIdentity() {
+        Integer uncached = new Integer(5);
+        assertSame(uncached, Try.success(uncached).get());
+    }
+
+    @Test
+    void testSwitchDeconstruction() {
+        assertEquals("value 10", describe(Try.of(() -> 10)));
+        assertEquals("cause / by zero", describe(Try.of(() -> 1 / 0)));
+    }
+
+    private static String describe(Try<Integer> result) {
+        return switch (result) {
+            case Success(var value) -> "value " + value;
+            case Failure(var cause) -> "cause " + cause.getMessage();
+        };
+    }
+
+    private static int parsePositive(String s) throws IOException {
+        int value = Integer.parseInt(s);
+        if (value < 0) throw new IOException("negative: " + s);
+        return value;
+    }
+
+    @Test
+    void testMapCheckedAndFlatMapChecked() {
+        assertEquals(12, Try.of(() -> "12").mapChecked(TryTest::parsePositive).get());
+        assertEquals(
+                IOException.class,
+                Try.of(() -> "-1").mapChecked(TryTest::parsePositive).getCause().getClass());
+        assertEquals(
+                13,
+                Try.of(() -> "12").flatMapChecked(s -> Try.success(parsePositive(s) + 1)).get());
+
+        Try<String> failure = Try.failure(new IllegalStateException());
+        assertSame(failure, failure.mapChecked(TryTest::parsePositive));
+        assertSame(failure, failure.flatMapChecked(s -> Try.success(parsePositive(s))));
+    }
+
+    @Test
+    void testRecoverChecked() {
+        Try<Integer> failure = Try.of(() -> 1 / 0);
+        assertEquals(3, failure.recoverChecked(t -> parsePositive("3")).get());
+        assertEquals(
+                IOException.class,
+                failure.recoverChecked(t -> parsePositive("-3")).getCause().getClass());
+
+        Try<Integer> success = Try.success(1);
+        assertSame(success, success.recoverChecked(t -> parsePositive("3")));
+    }
+
+    @Test
+    void testOnSuccessChecked() {
+        Try<Integer> success = Try.success(1);
+        assertSame(success, success.onSuccessChecked(v -> parsePositive("1")));
+        assertEquals(
+                IOException.class,
+                success.onSuccessChecked(v -> parsePositive("-1")).getCause().getClass());
+
+        AtomicBoolean called = new AtomicBoolean(false);
+        Try.of(() -> 1 / 0).onSuccessChecked(v -> called.set(true));
+        assertFalse(called.get());
+    }
+
+    @Test
+    void testContextOverloads() {
+        String prefix = "id-";
+        assertEquals("id-10", Try.success(10).map(prefix, (p, v) -> p + v).get());
+        assertEquals("id-10", Try.success(10).flatMap(prefix, (p, v) -> Try.success(p + v)).get());
+        assertEquals(
+                "id-fallback",
+                Try.<String>failure(new IllegalStateException())
+                        .recover(prefix, (p, t) -> p + "fallback")
+                        .get());
+
+        Try<Integer> failure = Try.of(() -> 1 / 0);
+        assertSame(failure, failure.map(prefix, (p, v) -> p + v));
+        assertSame(failure, failure.flatMap(prefix, (p, v) -> Try.success(p + v)));
+        assertEquals(
+                ArithmeticException.class,
+                Try.success(0).map(10, (c, v) -> c / v).getCause().getClass());
+    }
+
+    @Test
+    void testCheckedContextOverloads() {
+        String prefix = "id-";
+        assertEquals("id-10", Try.success(10).mapChecked(prefix, (p, v) -> p + v).get());
+        assertEquals(
+                "id-10",
+                Try.success(10).flatMapChecked(prefix, (p, v) -> Try.success(p + v)).get());
+        assertEquals(
+                "id-fallback",
+                Try.<String>failure(new IllegalStateException())
+                        .recoverChecked(prefix, (p, t) -> p + "fallback")
+                        .get());
+
+        IOException checked = new IOException("checked");
+        assertSame(
+                checked,
+                Try.success(10)
+                        .mapChecked(
+                                prefix,
+                                (p, v) -> {
+                                    throw checked;
+                                })
+                        .getCause());
+        assertSame(
+                checked,
+                Try.success(10)
+                        .<String, String>flatMapChecked(
+                                prefix,
+                                (p, v) -> {
+                                    throw checked;
+                                })
+                        .getCause());
+        assertSame(
+                checked,
+                Try.<String>failure(new IllegalStateException())
+                        .recoverChecked(
+                                prefix,
+                                (p, t) -> {
+                                    throw checked;
+                                })
+                        .getCause());
+
+        Try<Integer> failure = Try.of(() -> 1 / 0);
+        assertSame(failure, failure.mapChecked(prefix, (p, v) -> p + v));
+        assertSame(failure, failure.flatMapChecked(prefix, (p, v) -> Try.success(p + v)));
+        Try<Integer> success = Try.success(1);
+        assertSame(success, success.recoverChecked(prefix, (p, t) -> 0));
+    }
+
     @Test
     void testGetOrElseOnSuccess() {
         Try<Integer> success = Try.of(() -> 10);
@@ -167,6 +353,24 @@ class TryTest {
         assertEquals(ArithmeticException.class, exception.getCause().getClass());
     }
 
+    @Test
+    void testGetOnFailureWrapsWithoutStackTrace() {
+        Try<Integer> failure = Try.of(() -> 1 / 0);
+        TryException exception = assertThrows(TryException.class, failure::get);
+
+        assertSame(failure.getCause(), exception.getCause());
+        assertEquals(failure.getCause().toString(), exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testGetOrElseGet() {
+        assertEquals(10, Try.of(() -> 10).getOrElseGet(t -> -1));
+
+        Try<Integer> failure = Try.of(() -> 1 / 0);
+        assertEquals("/ by zero", failure.map(String::valueOf).getOrElseGet(Throwable::getMessage));
+    }
+
     @Test
     void testGetOrElseThrowOnSuccess() {
         Try<Integer> success = Try.of(() -> 10);
@@ -195,4 +399,82 @@ class TryTest {
         assertFalse(failure.isSuccess());
         assertTrue(failure.isFailure());
     }
+
+    @Test
+    void testOfTimedCompletesInTime() {
+        Try<Boolean> result =
+                Try.ofTimed(() -> Thread.currentThread().isVirtual(), Duration.ofSeconds(5));
+        assertTrue(result.get());
+
+        IOException exception = new IOException("boom");
+        Try<String> failure =
+                Try.ofTimed(
+                        () -> {
+                            throw exception;
+                        },
+                        Duration.ofSeconds(5));
+        assertSame(exception, failure.getCause());
+    }
+
+    @Test
+    void testOfTimedInterruptsOnTimeout() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Try<String> first =
+                Try.ofTimed(
+                        () -> {
+                            try {
+                                Thread.sleep(Duration.ofMinutes(1));
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                                throw e;
+                            }
+                            return "late";
+                        },
+                        Duration.ofMillis(20));
+
+        assertTrue(first.getCause() instanceof TimeoutException);
+        assertEquals(0, first.getCause().getStackTrace().length);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertFalse(Thread.currentThread().isInterrupted());
+
+        first.getCause().addSuppressed(new IOException("caller's"));
+        Try<String> second =
+                Try.ofTimed(
+                        () -> {
+                            Thread.sleep(Duration.ofMinutes(1));
+                            return "late";
+                        },
+                        Duration.ofMillis(1));
+        assertNotSame(first.getCause(), second.getCause());
+        assertEquals(0, second.getCause().getSuppressed().length);
+    }
+
+    @Test
+    void testOfTimedRejectsNullTimeout() {
+        assertThrows(NullPointerException.class, () -> Try.ofTimed(() -> "x", null));
+    }
+
+    @Test
+    void testOfTimedCallerInterrupted() throws InterruptedException {
+        AtomicReference<Try<String>> result = new AtomicReference<>();
+        AtomicBoolean stillInterrupted = new AtomicBoolean();
+        Thread caller =
+                Thread.startVirtualThread(
+                        () -> {
+                            result.set(
+                                    Try.ofTimed(
+                                            () -> {
+                                                Thread.sleep(Duration.ofMinutes(1));
+                                                return "late";
+                                            },
+                                            Duration.ofMinutes(1)));
+                            stillInterrupted.set(Thread.currentThread().isInterrupted());
+                        });
+        Thread.sleep(50);
+        caller.interrupt();
+        caller.join();
+
+        assertTrue(result.get().getCause() instanceof InterruptedException);
+        assertTrue(stillInterrupted.get());
+    }
 }